@@ -1,10 +1,18 @@
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Extractor.java. Implements feature extraction for collinear points in
@@ -17,12 +25,37 @@ import java.util.TreeSet;
  */
 public class Extractor {
 
+   /** largest input for which getLinesBruteParallel precomputes slopes. */
+   private static final int SLOPE_MATRIX_LIMIT = 2048;
+
+   /** bits per digit in the radix sort used by the fast scan. */
+   private static final int RADIX_BITS = 8;
+
+   /** number of distinct digits in the radix sort used by the fast scan. */
+   private static final int RADIX = 1 << RADIX_BITS;
+
+   /** slope key of the anchor itself and of its duplicates. */
+   private static final long NEGATIVE_INFINITY_KEY =
+      slopeKey(Double.NEGATIVE_INFINITY);
+
+   /** selects the point index from a getLinesTolerant key. */
+   private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+   /** longest gap allowed in a getLinesTolerant segment, in median gaps. */
+   private static final double MAX_GAP_RATIO = 2.0;
+
+   /** number of theta bins used by getLinesHough by default. */
+   private static final int DEFAULT_THETA_BINS = 180;
+
    /** raw data: all (x,y) points from source data. */
    private Point[] points;
 
    /** lines identified from raw data. */
    private SortedSet<Line> lines;
 
+   /** fewest points that make up a line segment outside of brute force. */
+   private int minLength = 4;
+
    /**
     * Builds an extractor based on the points in the file named by filename.
     */
@@ -52,6 +85,26 @@ public class Extractor {
       points = pcoll.toArray(new Point[]{});
    }
 
+   /**
+    * Sets the fewest collinear points that make up a line segment in all of
+    * the extraction methods except the brute-force ones, which always find
+    * segments of exactly four points. The default is four. If k is less than
+    * two, this method throws an IllegalArgumentException.
+    */
+   public void setMinimumLength(int k) {
+      if (k < 2) {
+         throw new IllegalArgumentException();
+      }
+      minLength = k;
+   }
+
+   /**
+    * Returns the fewest collinear points that make up a line segment.
+    */
+   public int getMinimumLength() {
+      return minLength;
+   }
+
    /**
     * Returns a sorted set of all line segments of exactly four collinear
     * points. Uses a brute-force combinatorial strategy. Returns an empty set
@@ -84,28 +137,823 @@ public class Extractor {
    }
 
    /**
-    * Returns a sorted set of all line segments of at least four collinear
-    * points. The line segments are maximal; that is, no sub-segments are
-    * identified separately. A sort-and-scan strategy is used. Returns an empty
-    * set if there are no qualifying line segments.
+    * Returns the same set of line segments as getLinesBrute, but prunes the
+    * search: the fourth point is only looked for when the first three are
+    * already collinear, so the O(n^4) innermost loop runs only for collinear
+    * triples. For up to SLOPE_MATRIX_LIMIT points the pairwise slopes are
+    * computed once into a triangular matrix instead of on every test, and
+    * the outermost loop runs in parallel.
+    */
+   public SortedSet<Line> getLinesBruteParallel() {
+      int n = points.length;
+      double[] slopes = null;
+      if (n <= SLOPE_MATRIX_LIMIT) {
+         slopes = new double[n * (n - 1) / 2];
+         for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+               slopes[pairIndex(i, j, n)] = points[i].slopeTo(points[j]);
+            }
+         }
+      }
+      final double[] table = slopes;
+      List<List<Line>> found = IntStream.range(0, n).parallel()
+         .mapToObj(i -> {
+            List<Line> group = new ArrayList<Line>();
+            bruteFrom(i, table, group::add);
+            return group;
+         })
+         .collect(Collectors.toList());
+      lines = new TreeSet<Line>();
+      for (List<Line> group : found) {
+         lines.addAll(group);
+      }
+      return lines;
+   }
+
+   /**
+    * Passes to action every line segment of exactly four collinear points
+    * whose first point in input order is points[i]. Slopes are read from the
+    * triangular matrix slopes, or computed directly if slopes is null.
+    */
+   private void bruteFrom(int i, double[] slopes, Consumer<Line> action) {
+      int n = points.length;
+      for (int j = i + 1; j < n; j++) {
+         double sij = slope(i, j, slopes);
+         for (int k = j + 1; k < n; k++) {
+            double sjk = slope(j, k, slopes);
+            if (sij != sjk) {
+               continue;
+            }
+            for (int l = k + 1; l < n; l++) {
+               if (slope(k, l, slopes) == sjk) {
+                  Line ln = new Line();
+                  ln.add(points[i]);
+                  ln.add(points[j]);
+                  ln.add(points[k]);
+                  ln.add(points[l]);
+                  action.accept(ln);
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * Returns the slope from points[i] to points[j], where i < j.
+    */
+   private double slope(int i, int j, double[] slopes) {
+      if (slopes == null) {
+         return points[i].slopeTo(points[j]);
+      }
+      return slopes[pairIndex(i, j, points.length)];
+   }
+
+   /**
+    * Returns the position of the pair (i, j), i < j, in a row-major upper
+    * triangular matrix of n points.
+    */
+   private static int pairIndex(int i, int j, int n) {
+      return i * (2 * n - i - 1) / 2 + (j - i - 1);
+   }
+
+   /**
+    * Returns a sorted set of all line segments of at least the minimum
+    * length of collinear points. The line segments are maximal; that is, no
+    * sub-segments are identified separately. A sort-and-scan strategy is
+    * used. Returns an empty set if there are no qualifying line segments.
     */
    public SortedSet<Line> getLinesFast() {
       lines = new TreeSet<Line>();
-      Line ln = new Line();
-      Point[] points2 = Arrays.copyOf(points, points.length);
+      forEachLineFast(lines::add);
+      return lines;
+   }
+
+   /**
+    * Passes each line segment of exactly four collinear points to action as
+    * soon as it is found, instead of collecting them into a set. The
+    * segments are the same as those returned by getLinesBrute, and the
+    * search is pruned as in getLinesBruteParallel. The lines field is not
+    * changed.
+    */
+   public void forEachLineBrute(Consumer<Line> action) {
       for (int i = 0; i < points.length; i++) {
-         Arrays.sort(points2, points[i].slopeOrder);
-         for (int j = 0; j < points.length; j++) {
-            ln.add(points2[0]);
-            if (ln.add(points2[j]) == false) {
-               if (ln.length() >= 4) {
-                  lines.add(ln);
+         bruteFrom(i, null, action);
+      }
+   }
+
+   /**
+    * Passes each maximal line segment of at least the minimum length to
+    * action as soon as it is found, instead of collecting them into a set.
+    * A segment is passed only from the scan anchored at its first point, so
+    * each one is passed exactly once and no set of results is needed to
+    * remove duplicates. The segments are the same as those returned by
+    * getLinesFast. The lines field is not changed.
+    */
+   public void forEachLineFast(Consumer<Line> action) {
+      scanFast((anchor, group, from, to, length) -> {
+         Line ln = new Line();
+         ln.add(points[anchor]);
+         for (int i = from; i < to; i++) {
+            ln.add(points[group[i]]);
+         }
+         action.accept(ln);
+      });
+   }
+
+   /**
+    * Counts the maximal line segments of at least the minimum length
+    * without building any Line objects. The returned counts describe the
+    * same segments that getLinesFast returns.
+    */
+   public LineCounts countLinesFast() {
+      long[] histogram = new long[points.length + 1];
+      scanFast((anchor, group, from, to, length) -> histogram[length]++);
+      return new LineCounts(histogram);
+   }
+
+   /**
+    * Runs the sort-and-scan strategy and passes every maximal segment of at
+    * least the minimum length to visitor exactly once. For each anchor the
+    * slope to every point is computed once into a primitive key, the point
+    * indexes are radix sorted by those keys, and the scan reads the sorted
+    * keys directly, so no comparator or slopeTo call is made while sorting
+    * and the anchor loop allocates nothing. Repeated points count once
+    * toward the length of a segment, and only the first copy of a repeated
+    * point is used as an anchor.
+    */
+   private void scanFast(SegmentVisitor visitor) {
+      int n = points.length;
+      int[] rank = naturalRanks();
+      int[] firstOfRank = new int[n];
+      Arrays.fill(firstOfRank, -1);
+      for (int i = 0; i < n; i++) {
+         if (firstOfRank[rank[i]] < 0) {
+            firstOfRank[rank[i]] = i;
+         }
+      }
+      /* seen[r] == a + 1 once a point of rank r has been counted in the
+         scan of anchor a. Equal points have equal slopes from the anchor,
+         so all copies of a point fall in the same run. */
+      int[] seen = new int[n];
+      long[] keys = new long[n];
+      long[] keyBuffer = new long[n];
+      int[] order = new int[n];
+      int[] orderBuffer = new int[n];
+      int[] counts = new int[RADIX];
+      for (int a = 0; a < n; a++) {
+         if (firstOfRank[rank[a]] != a) {
+            continue;
+         }
+         Point anchor = points[a];
+         for (int i = 0; i < n; i++) {
+            keys[i] = slopeKey(anchor.slopeTo(points[i]));
+            order[i] = i;
+         }
+         radixSort(keys, order, keyBuffer, orderBuffer, counts);
+
+         int j = 0;
+         while (j < n) {
+            long key = keys[j];
+            boolean anchorFirst = rank[a] < rank[order[j]];
+            int k = j + 1;
+            while (k < n && keys[k] == key) {
+               anchorFirst = anchorFirst && rank[a] < rank[order[k]];
+               k++;
+            }
+            /* The anchor itself and its duplicates sort first with slope
+               negative infinity and never form a segment. */
+            if (key != NEGATIVE_INFINITY_KEY && k - j + 1 >= minLength
+                    && anchorFirst) {
+               int length = 1;
+               for (int i = j; i < k; i++) {
+                  if (seen[rank[order[i]]] != a + 1) {
+                     seen[rank[order[i]]] = a + 1;
+                     length++;
+                  }
+               }
+               if (length >= minLength) {
+                  visitor.visit(a, order, j, k, length);
+               }
+            }
+            j = k;
+         }
+      }
+   }
+
+   /**
+    * Returns, for each point, its position in natural order. Equal points
+    * get equal positions.
+    */
+   private int[] naturalRanks() {
+      int n = points.length;
+      Integer[] byPoint = new Integer[n];
+      for (int i = 0; i < n; i++) {
+         byPoint[i] = i;
+      }
+      Arrays.sort(byPoint, (i, j) -> points[i].compareTo(points[j]));
+      int[] rank = new int[n];
+      for (int i = 1; i < n; i++) {
+         rank[byPoint[i]] = rank[byPoint[i - 1]]
+            + (points[byPoint[i]].equals(points[byPoint[i - 1]]) ? 0 : 1);
+      }
+      return rank;
+   }
+
+   /**
+    * Returns a long whose unsigned order is the numeric order of slope.
+    * Slopes are never NaN or negative zero, so equal keys mean equal slopes.
+    */
+   private static long slopeKey(double slope) {
+      long bits = Double.doubleToRawLongBits(slope);
+      return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+   }
+
+   /**
+    * Sorts keys into unsigned ascending order with a least significant digit
+    * radix sort, applying the same moves to order. The buffers must be as
+    * long as keys and counts must have RADIX elements. A pass is skipped
+    * when every key has the same digit in it.
+    */
+   private static void radixSort(long[] keys, int[] order, long[] keyBuffer,
+           int[] orderBuffer, int[] counts) {
+      int n = keys.length;
+      long[] srcKeys = keys;
+      long[] dstKeys = keyBuffer;
+      int[] srcOrder = order;
+      int[] dstOrder = orderBuffer;
+      for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+         Arrays.fill(counts, 0);
+         for (int i = 0; i < n; i++) {
+            counts[(int) (srcKeys[i] >>> shift) & (RADIX - 1)]++;
+         }
+         if (counts[(int) (srcKeys[0] >>> shift) & (RADIX - 1)] == n) {
+            continue;
+         }
+         int total = 0;
+         for (int d = 0; d < RADIX; d++) {
+            int c = counts[d];
+            counts[d] = total;
+            total += c;
+         }
+         for (int i = 0; i < n; i++) {
+            int d = (int) (srcKeys[i] >>> shift) & (RADIX - 1);
+            dstKeys[counts[d]] = srcKeys[i];
+            dstOrder[counts[d]++] = srcOrder[i];
+         }
+         long[] swapKeys = srcKeys;
+         srcKeys = dstKeys;
+         dstKeys = swapKeys;
+         int[] swapOrder = srcOrder;
+         srcOrder = dstOrder;
+         dstOrder = swapOrder;
+      }
+      if (srcKeys != keys) {
+         System.arraycopy(srcKeys, 0, keys, 0, n);
+         System.arraycopy(srcOrder, 0, order, 0, n);
+      }
+   }
+
+   /**
+    * Returns a sorted set of all line segments of at least the minimum
+    * length, using a Hough accumulator with a default number of angle bins.
+    * The result is the same as getLinesFast, but it is found more slowly.
+    */
+   public SortedSet<Line> getLinesHough() {
+      return getLinesHough(DEFAULT_THETA_BINS);
+   }
+
+   /**
+    * Returns a sorted set of all line segments of at least the minimum
+    * length. The line segments are maximal, exactly as in getLinesFast, but
+    * they are found with a quantized Hough transform. Each line is described
+    * by its normal angle theta and its distance rho from the origin; every
+    * point votes once per theta bin for the rho bin it falls into, and only
+    * points that share a window of two adjacent rho bins holding at least
+    * the minimum length in votes are checked for exact collinearity. Voting
+    * takes time proportional to n * thetaBins. The rho bins are as wide as
+    * the angle bins, so there are only about 2 * thetaBins of them, and
+    * on a few thousand points or more nearly every window passes the vote
+    * threshold. Each anchor is then compared with the points of its window
+    * in every theta bin, which is still O(n^2) pairs with a larger constant
+    * than getLinesFast: this method runs about seven to eight times slower
+    * than getLinesFast on 5,000 to 20,000 points, whether or not they hold
+    * planted lines. It is an independent way to find the same segments,
+    * not a faster one. If thetaBins is less than one, this method throws
+    * an IllegalArgumentException.
+    */
+   public SortedSet<Line> getLinesHough(int thetaBins) {
+      if (thetaBins < 1) {
+         throw new IllegalArgumentException();
+      }
+      lines = new TreeSet<Line>();
+      int n = points.length;
+      if (n < minLength) {
+         return lines;
+      }
+      int max = 1;
+      for (Point p : points) {
+         max = Math.max(max, Math.max(p.getX(), p.getY()));
+      }
+      double dTheta = Math.PI / thetaBins;
+      double diag = Math.sqrt(2.0) * max;
+      /* In the bin nearest its own angle, the rho values of a line's points
+         spread over at most diag * dTheta / 2, so a rho bin twice that wide
+         keeps every point of the line within two adjacent bins. */
+      double width = diag * dTheta;
+      int rhoBins = (int) (2 * diag / width) + 2;
+      /* Only points inside a wedge around the bin's line direction can form
+         a segment owned by that bin; the wedge is kept wider than half a
+         bin so that rounding never drops a qualifying point. A single bin
+         covers every direction. */
+      double wedge = Math.tan(0.75 * dTheta);
+
+      int[] bin = new int[n];
+      int[] start = new int[rhoBins + 1];
+      int[] next = new int[rhoBins];
+      Point[] order = new Point[n];
+      Point[] candidates = new Point[n];
+      for (int t = 0; t < thetaBins; t++) {
+         double cos = Math.cos(t * dTheta);
+         double sin = Math.sin(t * dTheta);
+
+         /* Vote, then counting sort the points by rho bin. */
+         Arrays.fill(start, 0);
+         for (int i = 0; i < n; i++) {
+            bin[i] = (int) ((rho(points[i], cos, sin) + diag) / width);
+            start[bin[i] + 1]++;
+         }
+         for (int r = 0; r < rhoBins; r++) {
+            start[r + 1] += start[r];
+            next[r] = start[r];
+         }
+         for (int i = 0; i < n; i++) {
+            order[next[bin[i]]++] = points[i];
+         }
+
+         for (int r = 0; r < rhoBins; r++) {
+            int votes = start[Math.min(r + 2, rhoBins)] - start[r];
+            if (start[r + 1] == start[r] || votes < minLength) {
+               continue;
+            }
+            /* A segment is reported only from the window whose lower bin
+               holds its minimum-rho endpoint. Its partial runs can reach one
+               bin to either side, so those bins are searched as well. */
+            int lo = start[Math.max(r - 1, 0)];
+            int hi = start[Math.min(r + 3, rhoBins)];
+            for (int a = start[r]; a < start[r + 1]; a++) {
+               Point anchor = order[a];
+               int m = 0;
+               for (int c = lo; c < hi; c++) {
+                  double ex = order[c].getX() - anchor.getX();
+                  double ey = order[c].getY() - anchor.getY();
+                  /* Copies of the anchor have no direction from it. */
+                  if (ex == 0 && ey == 0) {
+                     continue;
+                  }
+                  double across = ex * cos + ey * sin;
+                  double along = ey * cos - ex * sin;
+                  if (thetaBins == 1
+                          || Math.abs(across) <= Math.abs(along) * wedge) {
+                     candidates[m++] = order[c];
+                  }
+               }
+               if (m + 1 < minLength) {
+                  continue;
+               }
+               Arrays.sort(candidates, 0, m, anchor.slopeOrder);
+               int j = 0;
+               while (j < m) {
+                  int k = j + 1;
+                  while (k < m && anchor.slopeTo(candidates[j])
+                          == anchor.slopeTo(candidates[k])) {
+                     k++;
+                  }
+                  if (k - j + 1 >= minLength && isHoughOwner(anchor,
+                          candidates, j, k, t, dTheta, thetaBins, cos, sin)) {
+                     Line ln = new Line();
+                     ln.add(anchor);
+                     for (int c = j; c < k; c++) {
+                        ln.add(candidates[c]);
+                     }
+                     /* Line ignores repeated points, so check its length. */
+                     if (ln.length() >= minLength) {
+                        lines.add(ln);
+                     }
+                  }
+                  j = k;
                }
-               ln = new Line();
-               ln.add(points2[j]);
             }
          }
       }
       return lines;
    }
+
+   /**
+    * Returns a sorted set of line segments of at least the minimum length
+    * whose points are collinear to within epsilon radians, for measured data
+    * in which no points are exactly collinear. Each noisy line is reported
+    * once, as a single segment holding all of its points, unless other
+    * points lie close enough to it to make the choice ambiguous.
+    *
+    * A point belongs to the segment between two end points if it lies
+    * between them and within epsilon radians of the segment as seen from
+    * the end that is farther from it. Measuring from the far end lets a
+    * jittered point sit close to a neighbor on the line without its
+    * direction from that neighbor counting against it. Seen from far
+    * enough away a few small clusters of points always look collinear, so
+    * the points must also be spread evenly: no gap between successive
+    * points may be longer than MAX_GAP_RATIO times the median gap.
+    *
+    * The end points to try come from hashing, for each anchor point, the
+    * directions to all other points into angle buckets of width epsilon.
+    * The points of each pair of adjacent buckets that pass
+    * Line.add(p, 2 * epsilon) with the anchor are a candidate, and the
+    * anchor paired with each point of a candidate is a pair of end points
+    * to try. Every pair is scored by the points that belong to its
+    * segment, and segments are taken largest first. A segment that shares
+    * two points with one already taken, and still fits within twice
+    * epsilon radians when joined to it, is a piece of that line and is
+    * skipped, while lines that cross share only one point and are both
+    * kept. Scoring a pair takes O(n) time and there can be O(n^2) pairs,
+    * so this method is meant for a few thousand points at most. If
+    * epsilon is not positive, this method throws an
+    * IllegalArgumentException.
+    */
+   public SortedSet<Line> getLinesTolerant(double epsilon) {
+      if (!(epsilon > 0)) {
+         throw new IllegalArgumentException();
+      }
+      lines = new TreeSet<Line>();
+      int n = points.length;
+      int buckets = (int) Math.ceil(Math.PI / epsilon);
+      long[] keys = new long[n];
+      int[] members = new int[n];
+      Set<Long> ends = new HashSet<Long>();
+      for (int a = 0; a < n; a++) {
+         Point anchor = points[a];
+         /* Directions are taken from the lesser point of each pair to the
+            greater one, so all lie in [0, pi). A key holds the bucket in
+            its high half and the point's index in its low half, so sorting
+            the keys groups each bucket. */
+         int m = 0;
+         for (int i = 0; i < n; i++) {
+            int cmp = anchor.compareTo(points[i]);
+            if (cmp != 0) {
+               Point from = cmp < 0 ? anchor : points[i];
+               Point to = cmp < 0 ? points[i] : anchor;
+               double theta = Math.atan2(to.getY() - from.getY(),
+                       to.getX() - from.getX());
+               int b = Math.min((int) (theta / epsilon), buckets - 1);
+               keys[m++] = ((long) b << 32) | i;
+            }
+         }
+         Arrays.sort(keys, 0, m);
+
+         int j = 0;
+         while (j < m) {
+            int b = (int) (keys[j] >>> 32);
+            int k = bucketEnd(keys, j, m);
+            /* The window is this bucket and the next one; the last bucket
+               wraps around to the first, since directions just below pi and
+               just above zero are nearly the same line. */
+            int from = k;
+            int to = k;
+            if (k < m && (int) (keys[k] >>> 32) == b + 1) {
+               to = bucketEnd(keys, k, m);
+            }
+            else if (b == buckets - 1 && b > 0 && m > 0
+                    && (int) (keys[0] >>> 32) == 0) {
+               from = 0;
+               to = bucketEnd(keys, 0, m);
+            }
+            if ((k - j) + (to - from) + 1 >= minLength) {
+               Line ln = new Line();
+               ln.add(anchor);
+               members[0] = a;
+               int size = 1;
+               size = addTolerant(ln, keys, j, k, members, size, epsilon);
+               size = addTolerant(ln, keys, from, to, members, size,
+                  epsilon);
+               if (size >= minLength) {
+                  for (int c = 1; c < size; c++) {
+                     ends.add((long) Math.min(a, members[c]) * n
+                        + Math.max(a, members[c]));
+                  }
+               }
+            }
+            j = k;
+         }
+      }
+
+      List<int[]> segments = new ArrayList<int[]>();
+      for (long pair : ends) {
+         int[] segment = segment((int) (pair / n), (int) (pair % n),
+            epsilon, members);
+         if (segment != null) {
+            segments.add(segment);
+         }
+      }
+      segments.sort((s, t) -> t.length - s.length);
+
+      /* Each point keeps the segments taken through it. A segment that
+         shares two points with one taken before it, and that still fits
+         within the tolerance when joined to it, is a piece of that line. */
+      List<List<Integer>> taken = new ArrayList<List<Integer>>(n);
+      for (int i = 0; i < n; i++) {
+         taken.add(new ArrayList<Integer>(1));
+      }
+      int[] shared = new int[segments.size()];
+      int[] seen = new int[segments.size()];
+      List<Integer> overlaps = new ArrayList<Integer>();
+      double sin = Math.sin(2 * epsilon);
+      for (int s = 0; s < segments.size(); s++) {
+         int[] segment = segments.get(s);
+         overlaps.clear();
+         for (int i : segment) {
+            for (int t : taken.get(i)) {
+               if (seen[t] != s + 1) {
+                  seen[t] = s + 1;
+                  shared[t] = 0;
+               }
+               if (++shared[t] == 2) {
+                  overlaps.add(t);
+               }
+            }
+         }
+         boolean piece = false;
+         for (int t : overlaps) {
+            piece |= fits(segment, segments.get(t), sin);
+         }
+         if (piece) {
+            continue;
+         }
+         Line ln = new Line();
+         for (int i : segment) {
+            taken.get(i).add(s);
+            ln.addUnchecked(points[i]);
+         }
+         lines.add(ln);
+      }
+      return lines;
+   }
+
+   /**
+    * Adds the points of keys[from..to) that ln accepts to within twice
+    * epsilon radians, recording their indexes in members after the first
+    * size entries. Returns the new number of members.
+    */
+   private int addTolerant(Line ln, long[] keys, int from, int to,
+           int[] members, int size, double epsilon) {
+      for (int c = from; c < to; c++) {
+         int i = (int) (keys[c] & INDEX_MASK);
+         if (ln.add(points[i], 2 * epsilon)) {
+            members[size++] = i;
+         }
+      }
+      return size;
+   }
+
+   /**
+    * Returns the indexes of the points on the segment from points[e1] to
+    * points[e2] to within tolerance radians, as described for
+    * getLinesTolerant, in order from points[e1], or null if there are fewer
+    * than the minimum length of them or they are not spread evenly.
+    * buffer must hold n entries.
+    */
+   private int[] segment(int e1, int e2, double tolerance, int[] buffer) {
+      Point p1 = points[e1];
+      Point p2 = points[e2];
+      double dx = p2.getX() - p1.getX();
+      double dy = p2.getY() - p1.getY();
+      double lengthSquared = dx * dx + dy * dy;
+      double sin = Math.sin(tolerance);
+      double[] along = new double[points.length];
+      int size = 0;
+      for (int i = 0; i < points.length; i++) {
+         Point p = points[i];
+         along[i] = dx * (p.getX() - p1.getX()) + dy * (p.getY() - p1.getY());
+         if (along[i] >= 0 && along[i] <= lengthSquared
+               && near(p, p1, p2, sin)) {
+            buffer[size++] = i;
+         }
+      }
+      if (size < minLength) {
+         return null;
+      }
+      int[] result = IntStream.of(Arrays.copyOf(buffer, size)).boxed()
+         .sorted(Comparator.comparingDouble(i -> along[i]))
+         .mapToInt(Integer::intValue).toArray();
+      double[] gaps = new double[size - 1];
+      for (int c = 0; c < size - 1; c++) {
+         gaps[c] = along[result[c + 1]] - along[result[c]];
+      }
+      Arrays.sort(gaps);
+      if (gaps[size - 2] > MAX_GAP_RATIO * gaps[(size - 1) / 2]) {
+         return null;
+      }
+      return result;
+   }
+
+   /**
+    * Returns true if the points of the segments s and t, given as point
+    * indexes in order along them, together lie on the segment between the
+    * two of their end points farthest apart, to within the angle whose sine
+    * is sin.
+    */
+   private boolean fits(int[] s, int[] t, double sin) {
+      int[] ends = {s[0], s[s.length - 1], t[0], t[t.length - 1]};
+      Point p1 = points[ends[0]];
+      Point p2 = points[ends[1]];
+      for (int c = 0; c < ends.length; c++) {
+         for (int d = c + 1; d < ends.length; d++) {
+            if (distance(points[ends[c]], points[ends[d]])
+                  > distance(p1, p2)) {
+               p1 = points[ends[c]];
+               p2 = points[ends[d]];
+            }
+         }
+      }
+      for (int i : s) {
+         if (!near(points[i], p1, p2, sin)) {
+            return false;
+         }
+      }
+      for (int i : t) {
+         if (!near(points[i], p1, p2, sin)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns true if p lies within the angle whose sine is sin of the
+    * segment from p1 to p2, as seen from the end of the segment farther
+    * from p.
+    */
+   private static boolean near(Point p, Point p1, Point p2, double sin) {
+      double dx = p2.getX() - p1.getX();
+      double dy = p2.getY() - p1.getY();
+      double d1 = distance(p, p1);
+      double d2 = distance(p, p2);
+      Point far = d1 >= d2 ? p1 : p2;
+      double cross = Math.abs(dx * (p.getY() - far.getY())
+         - dy * (p.getX() - far.getX()));
+      return cross <= sin * Math.hypot(dx, dy) * Math.max(d1, d2);
+   }
+
+   /**
+    * Returns the Euclidean distance between p and q.
+    */
+   private static double distance(Point p, Point q) {
+      return Math.hypot(q.getX() - p.getX(), q.getY() - p.getY());
+   }
+
+   /**
+    * Returns the index just past the run of keys that share the bucket of
+    * keys[from], looking no further than keys[to - 1].
+    */
+   private static int bucketEnd(long[] keys, int from, int to) {
+      long bucket = keys[from] >>> 32;
+      int k = from + 1;
+      while (k < to && keys[k] >>> 32 == bucket) {
+         k++;
+      }
+      return k;
+   }
+
+   /**
+    * Returns the signed distance from the origin to the line through p whose
+    * unit normal is (cos, sin).
+    */
+   private static double rho(Point p, double cos, double sin) {
+      return p.getX() * cos + p.getY() * sin;
+   }
+
+   /**
+    * Returns true if the segment made of anchor and candidates[from..to) is
+    * to be reported from theta bin t with anchor as its minimum-rho point.
+    * That is the case only if t is the bin nearest to the segment's normal
+    * angle and no other point of the segment has a smaller rho.
+    */
+   private static boolean isHoughOwner(Point anchor, Point[] candidates,
+           int from, int to, int t, double dTheta, int thetaBins,
+           double cos, double sin) {
+      /* The direction is reduced to lowest terms so that every pair of
+         points on the line yields exactly the same angle. */
+      int dx = candidates[from].getX() - anchor.getX();
+      int dy = candidates[from].getY() - anchor.getY();
+      if (dy < 0 || dy == 0 && dx < 0) {
+         dx = -dx;
+         dy = -dy;
+      }
+      int g = gcd(Math.abs(dx), dy);
+      double theta = Math.atan2(dy / g, dx / g) + Math.PI / 2;
+      while (theta < 0) {
+         theta += Math.PI;
+      }
+      while (theta >= Math.PI) {
+         theta -= Math.PI;
+      }
+      if ((int) Math.round(theta / dTheta) % thetaBins != t) {
+         return false;
+      }
+      double rhoAnchor = rho(anchor, cos, sin);
+      for (int c = from; c < to; c++) {
+         if (rho(candidates[c], cos, sin) < rhoAnchor) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns the greatest common divisor of two non-negative integers that
+    * are not both zero.
+    */
+   private static int gcd(int a, int b) {
+      while (b != 0) {
+         int r = a % b;
+         a = b;
+         b = r;
+      }
+      return a;
+   }
+
+   /**
+    * Receives the maximal segments found by scanFast. The segment is made of
+    * the points at index anchor and at indexes group[from] through
+    * group[to - 1], of which length are distinct.
+    */
+   private interface SegmentVisitor {
+
+      /** Called once for each maximal segment. */
+      void visit(int anchor, int[] group, int from, int to, int length);
+   }
+
+   /**
+    * Summarizes a set of line segments by their number and lengths.
+    */
+   public static class LineCounts {
+
+      /** histogram[k] is the number of segments made of k points. */
+      private final long[] histogram;
+
+      /**
+       * Builds a summary from a histogram of segment lengths.
+       */
+      LineCounts(long[] histogram) {
+         int last = histogram.length - 1;
+         while (last > 0 && histogram[last] == 0) {
+            last--;
+         }
+         this.histogram = Arrays.copyOf(histogram, last + 1);
+      }
+
+      /**
+       * Returns the total number of segments.
+       */
+      public long count() {
+         long total = 0;
+         for (long c : histogram) {
+            total += c;
+         }
+         return total;
+      }
+
+      /**
+       * Returns the number of segments made of exactly length points.
+       */
+      public long count(int length) {
+         if (length < 0 || length >= histogram.length) {
+            return 0;
+         }
+         return histogram[length];
+      }
+
+      /**
+       * Returns the length histogram: element k of the returned array is the
+       * number of segments made of exactly k points. The array ends at the
+       * longest segment.
+       */
+      public long[] histogram() {
+         return Arrays.copyOf(histogram, histogram.length);
+      }
+
+      /**
+       * Returns a string representation of these counts.
+       */
+      @Override
+      public String toString() {
+         StringBuilder s = new StringBuilder();
+         s.append(count()).append(" segments");
+         for (int k = 0; k < histogram.length; k++) {
+            if (histogram[k] > 0) {
+               s.append(", ").append(histogram[k]).append(" of length ")
+                  .append(k);
+            }
+         }
+         return s.toString();
+      }
+   }
 }
@@ -0,0 +1,138 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * ExtractorBenchmark.java. Measures the throughput, allocation and scaling
+ * of the Extractor strategies on the workloads made by PointGenerator.
+ *
+ * Each mode is run on sizes that double from 1,000 points up to the given
+ * maximum (1,000,000 by default). Every measurement is preceded by warm-up
+ * runs so the JIT has compiled the hot paths, and reports the mean time per
+ * run, points processed per second, bytes allocated per run by all threads,
+ * including the fork/join workers of the parallel modes, and the number of
+ * segments found. A mode stops scaling once a single run takes longer than
+ * the time limit, since the next size would take at least four times as
+ * long. Brute force starts at 32 points because it is O(n^4).
+ *
+ * Usage: java ExtractorBenchmark [maxN] [seconds] [workload ...]
+ *
+ * @author  Daniel Thomason (DHT0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class ExtractorBenchmark {
+
+   /** Default largest input size. */
+   private static final int DEFAULT_MAX_N = 1_000_000;
+
+   /** Default time limit in seconds for a single run. */
+   private static final double DEFAULT_LIMIT = 10.0;
+
+   /** Warm-up runs before each measurement. */
+   private static final int WARMUP_RUNS = 2;
+
+   /** Measured runs per size. */
+   private static final int MEASURED_RUNS = 3;
+
+   /** Seed for all generated workloads, so runs are comparable. */
+   private static final long SEED = 2210;
+
+   /** Per-thread allocation counter of the running JVM. */
+   private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+   /**
+    * Can't instantiate this class.
+    */
+   private ExtractorBenchmark() { }
+
+   /**
+    * Drives execution.
+    */
+   public static void main(String[] args) {
+      int maxN = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_N;
+      double limit = args.length > 1 ? Double.parseDouble(args[1])
+                                     : DEFAULT_LIMIT;
+      String[] workloads = PointGenerator.WORKLOADS;
+      if (args.length > 2) {
+         workloads = Arrays.copyOfRange(args, 2, args.length);
+      }
+
+      System.out.printf("%-8s %-14s %9s %12s %14s %14s %10s%n", "workload",
+         "mode", "n", "ms/run", "points/s", "bytes/run", "segments");
+      for (String workload : workloads) {
+         run(workload, "brute", 32, maxN, limit,
+            e -> e.getLinesBrute().size());
+         run(workload, "bruteParallel", 32, maxN, limit,
+            e -> e.getLinesBruteParallel().size());
+         run(workload, "fast", 1000, maxN, limit,
+            e -> e.getLinesFast().size());
+         run(workload, "countFast", 1000, maxN, limit,
+            e -> e.countLinesFast().count());
+         run(workload, "hough", 1000, maxN, limit,
+            e -> e.getLinesHough().size());
+      }
+   }
+
+   /**
+    * Measures one mode on one workload for doubling sizes from minN to maxN
+    * and prints a line per size.
+    */
+   private static void run(String workload, String mode, int minN, int maxN,
+           double limit, ToLongFunction<Extractor> strategy) {
+      for (int n = minN; n <= maxN; n = nextSize(n, maxN)) {
+         List<Point> points = PointGenerator.generate(workload, n, SEED);
+         Extractor extractor = new Extractor(points);
+
+         long segments = 0;
+         for (int i = 0; i < WARMUP_RUNS; i++) {
+            long start = System.nanoTime();
+            segments = strategy.applyAsLong(extractor);
+            if ((System.nanoTime() - start) / 1e9 > limit) {
+               System.out.printf("%-8s %-14s %9d %12s%n", workload, mode, n,
+                  "over limit");
+               return;
+            }
+         }
+
+         long bytesBefore = allocatedBytes();
+         long start = System.nanoTime();
+         for (int i = 0; i < MEASURED_RUNS; i++) {
+            segments = strategy.applyAsLong(extractor);
+         }
+         double seconds = (System.nanoTime() - start) / 1e9 / MEASURED_RUNS;
+         long bytes = (allocatedBytes() - bytesBefore) / MEASURED_RUNS;
+
+         System.out.printf("%-8s %-14s %9d %12.2f %14.0f %14d %10d%n",
+            workload, mode, n, seconds * 1e3, n / seconds, bytes, segments);
+         if (seconds > limit || n == maxN) {
+            return;
+         }
+      }
+   }
+
+   /**
+    * Returns the bytes allocated so far by all live threads. The common
+    * fork/join pool keeps its workers alive between runs, so the difference
+    * of two readings covers the work a parallel mode hands to them.
+    */
+   private static long allocatedBytes() {
+      long total = 0;
+      for (long bytes : THREADS.getThreadAllocatedBytes(
+              THREADS.getAllThreadIds())) {
+         if (bytes > 0) {
+            total += bytes;
+         }
+      }
+      return total;
+   }
+
+   /**
+    * Returns the size after n: double n, but no more than maxN.
+    */
+   private static int nextSize(int n, int maxN) {
+      return n >= maxN ? maxN + 1 : (int) Math.min(2L * n, maxN);
+   }
+}
@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * ExtractorCheck.java. Checks the results of the Extractor strategies on
+ * the workloads made by PointGenerator, and exits with a nonzero status if
+ * any check fails.
+ *
+ * Usage: java ExtractorCheck
+ *
+ * @author  Daniel Thomason (DHT0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class ExtractorCheck {
+
+   /** Number of seeds each check is run on. */
+   private static final int SEEDS = 20;
+
+   /** Angle tolerance in radians for getLinesTolerant. */
+   private static final double EPSILON = 0.01;
+
+   /**
+    * Can't instantiate this class.
+    */
+   private ExtractorCheck() { }
+
+   /**
+    * Runs every check and reports how many failed.
+    */
+   public static void main(String[] args) {
+      int failures = checkTolerantPlanted();
+      System.out.println(failures == 0 ? "all checks passed"
+         : failures + " checks failed");
+      if (failures > 0) {
+         System.exit(1);
+      }
+   }
+
+   /**
+    * Plants lines of eight points jittered by one unit, and checks that
+    * getLinesTolerant reports exactly one segment holding all the points
+    * of each line. Lines whose points are so close together that the
+    * jitter turns them by more than a quarter of the tolerance are not
+    * collinear to within it and are left out of the count. Returns the
+    * number of lines that failed.
+    */
+   private static int checkTolerantPlanted() {
+      int failures = 0;
+      for (int seed = 0; seed < SEEDS; seed++) {
+         Random rnd = new Random(seed);
+         List<Point> points = new ArrayList<Point>();
+         List<SortedSet<Point>> planted = new ArrayList<SortedSet<Point>>();
+         for (int l = 0; l < 5; l++) {
+            SortedSet<Point> line = new TreeSet<Point>(
+               PointGenerator.planted(8, 1, 8, 1, 100_000, rnd));
+            points.addAll(line);
+            double step = Math.hypot(
+               line.last().getX() - line.first().getX(),
+               line.last().getY() - line.first().getY()) / 7;
+            if (step * EPSILON >= 4) {
+               planted.add(line);
+            }
+         }
+         SortedSet<Line> lines = new Extractor(points)
+            .getLinesTolerant(EPSILON);
+         for (SortedSet<Point> line : planted) {
+            int holding = 0;
+            for (Line ln : lines) {
+               SortedSet<Point> found = new TreeSet<Point>();
+               ln.forEach(found::add);
+               if (found.containsAll(line)) {
+                  holding++;
+               }
+            }
+            if (holding != 1) {
+               System.out.println("tolerant: seed " + seed + ", " + holding
+                  + " segments hold " + line);
+               failures++;
+            }
+         }
+      }
+      return failures;
+   }
+}
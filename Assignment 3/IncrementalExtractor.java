@@ -0,0 +1,127 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * IncrementalExtractor.java. Implements feature extraction for collinear
+ * points that arrive one at a time. A new point is compared only against the
+ * points already seen: grouping them by the slope they make with the new
+ * point yields every line through it, so no earlier work is repeated. The
+ * current set of maximal line segments of at least four collinear points is
+ * always available.
+ *
+ * @author  Daniel Thomason (DHT0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public class IncrementalExtractor {
+
+   /** Minimum number of collinear points that make up a line segment. */
+   private static final int MIN_POINTS = 4;
+
+   /** all distinct points added so far, in arrival order. */
+   private List<Point> points;
+
+   /** the same points in natural order, used to reject duplicates. */
+   private SortedSet<Point> distinct;
+
+   /** maximal lines identified so far. */
+   private SortedSet<Line> lines;
+
+   /** notified whenever a line segment is formed or extended. */
+   private SegmentListener listener;
+
+   /**
+    * Builds an incremental extractor with no points and no listener.
+    */
+   public IncrementalExtractor() {
+      this(null);
+   }
+
+   /**
+    * Builds an incremental extractor with no points that reports new and
+    * extended line segments to the given listener. The listener may be null.
+    */
+   public IncrementalExtractor(SegmentListener listener) {
+      this.listener = listener;
+      points = new ArrayList<Point>();
+      distinct = new TreeSet<Point>();
+      lines = new TreeSet<Line>();
+   }
+
+   /**
+    * Adds the point p and updates the set of lines. The new point is compared
+    * only against the points already added, so each call takes time linear in
+    * the number of points seen so far. Every line segment that is formed or
+    * extended by p is reported to the listener. Returns false if p is a
+    * duplicate of a point already added, true otherwise. If p is null, this
+    * method throws an IllegalArgumentException.
+    */
+   public boolean addPoint(Point p) {
+      if (p == null) {
+         throw new IllegalArgumentException();
+      }
+      if (!distinct.add(p)) {
+         return false;
+      }
+      Map<Double, List<Point>> groups = new HashMap<Double, List<Point>>();
+      for (Point q : points) {
+         groups.computeIfAbsent(q.slopeTo(p), s -> new ArrayList<Point>())
+            .add(q);
+      }
+      points.add(p);
+
+      /* Each slope group of p holds every other point on one line through p,
+         so a large enough group is a maximal segment containing p. */
+      for (List<Point> group : groups.values()) {
+         if (group.size() + 1 >= MIN_POINTS) {
+            Line replaced = null;
+            if (group.size() >= MIN_POINTS) {
+               replaced = new Line(group);
+               lines.remove(replaced);
+            }
+            Line ln = new Line(group);
+            ln.add(p);
+            lines.add(ln);
+            if (listener != null) {
+               listener.segmentFound(ln, replaced);
+            }
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns the number of distinct points added so far.
+    */
+   public int size() {
+      return points.size();
+   }
+
+   /**
+    * Returns a read-only view of all maximal line segments of at least four
+    * collinear points among the points added so far. The view reflects later
+    * calls to addPoint without any recomputation.
+    */
+   public SortedSet<Line> getLines() {
+      return Collections.unmodifiableSortedSet(lines);
+   }
+
+   /**
+    * Receives line segments from an IncrementalExtractor as they are formed
+    * or extended.
+    */
+   public interface SegmentListener {
+
+      /**
+       * Called when segment becomes one of the maximal lines. If segment
+       * extends an existing line, replaced is that line; otherwise replaced
+       * is null.
+       */
+      void segmentFound(Line segment, Line replaced);
+   }
+}
@@ -59,6 +59,46 @@ public class Line implements Comparable<Line>, Iterable<Point> {
       return false;
    }
 
+   /**
+    * Adds the point p to this line if p is collinear to within epsilon
+    * radians with the points already in the line and p itself is not
+    * already in the line. The direction from the first point to p is
+    * compared with the direction from the first point to the last point.
+    * Returns true if this line is changed as a result, false otherwise.
+    */
+   public boolean add(Point p, double epsilon) {
+      if (line.isEmpty() || this.length() == 1) {
+          return line.add(p);
+      }
+      else if (line.contains(p)) {
+          return false;
+      }
+      double diff = Math.abs(angle(this.first(), this.last())
+              - angle(this.first(), p)) % Math.PI;
+      if (Math.min(diff, Math.PI - diff) <= epsilon) {
+          line.add(p);
+          return true;
+      }
+      return false;
+   }
+
+   /**
+    * Adds the point p to this line without checking that it is collinear
+    * with the points already in the line. Extractor uses this to join
+    * segments it has already found to be collinear within a tolerance.
+    * Returns true if this line is changed as a result, false otherwise.
+    */
+   boolean addUnchecked(Point p) {
+      return line.add(p);
+   }
+
+   /**
+    * Returns the direction in radians from point a to point b.
+    */
+   private static double angle(Point a, Point b) {
+      return Math.atan2(b.getY() - a.getY(), b.getX() - a.getX());
+   }
+
    /**
     * Returns the first (minimum) point in this line or null if this line
     * contains no points.
@@ -32,6 +32,20 @@ public final class Point implements Comparable<Point> {
       }
    }
 
+   /**
+    * Returns the x coordinate of this point.
+    */
+   public int getX() {
+      return x;
+   }
+
+   /**
+    * Returns the y coordinate of this point.
+    */
+   public int getY() {
+      return y;
+   }
+
    /**
     * Return a string representation of this point.
     *
@@ -0,0 +1,180 @@
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * PointGenerator.java. Generates synthetic point sets for exercising and
+ * benchmarking Extractor. Every workload is a list of distinct points in
+ * Quadrant I, in random order, and can be written in the file format read by
+ * the Extractor(String) constructor: the number of points followed by one
+ * "x y" pair per point.
+ *
+ * @author  Daniel Thomason (DHT0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class PointGenerator {
+
+   /** Names of the workloads understood by generate and main. */
+   public static final String[] WORKLOADS =
+      {"uniform", "grid", "planted", "slopes"};
+
+   /**
+    * Can't instantiate this class.
+    */
+   private PointGenerator() { }
+
+   /**
+    * Writes a workload to a file. Usage:
+    * java PointGenerator workload n seed filename
+    * where workload is one of uniform, grid, planted or slopes.
+    */
+   public static void main(String[] args) throws FileNotFoundException {
+      if (args.length != 4) {
+         System.out.println("usage: java PointGenerator "
+            + "uniform|grid|planted|slopes n seed filename");
+         return;
+      }
+      int n = Integer.parseInt(args[1]);
+      long seed = Long.parseLong(args[2]);
+      write(generate(args[0], n, seed), args[3]);
+   }
+
+   /**
+    * Returns n points of the named workload built from the given seed. If
+    * the name is not one of WORKLOADS, this method throws an
+    * IllegalArgumentException.
+    */
+   public static List<Point> generate(String workload, int n, long seed) {
+      Random rnd = new Random(seed);
+      switch (workload) {
+         case "uniform":
+            return uniform(n, Math.max(1024, 4 * n), rnd);
+         case "grid":
+            return grid(n, rnd);
+         case "planted":
+            return planted(n, Math.max(1, n / 100), 8, 0,
+               Math.max(1024, 4 * n), rnd);
+         case "slopes":
+            return duplicateSlopes(n, rnd);
+         default:
+            throw new IllegalArgumentException(workload);
+      }
+   }
+
+   /**
+    * Returns n distinct points drawn uniformly from [0, max] x [0, max].
+    * Few of them are collinear when max is large compared to n.
+    */
+   public static List<Point> uniform(int n, int max, Random rnd) {
+      SortedSet<Point> seen = new TreeSet<Point>();
+      List<Point> result = new ArrayList<Point>(n);
+      fillUniform(result, seen, n, max, rnd);
+      Collections.shuffle(result, rnd);
+      return result;
+   }
+
+   /**
+    * Returns the first n points of a dense square grid, the worst case for
+    * collinearity: almost every pair of points lies on a long line.
+    */
+   public static List<Point> grid(int n, Random rnd) {
+      int side = (int) Math.ceil(Math.sqrt(n));
+      List<Point> result = new ArrayList<Point>(n);
+      for (int i = 0; i < n; i++) {
+         result.add(new Point(i % side, i / side));
+      }
+      Collections.shuffle(result, rnd);
+      return result;
+   }
+
+   /**
+    * Returns n points made of the given number of planted lines of k
+    * collinear points each, filled up with uniform background points in
+    * [0, max] x [0, max]. Every point on a planted line is moved by up to
+    * jitter in each coordinate, so a jitter of zero plants exactly collinear
+    * lines and a positive jitter models noisy measurements.
+    */
+   public static List<Point> planted(int n, int lines, int k, int jitter,
+           int max, Random rnd) {
+      SortedSet<Point> seen = new TreeSet<Point>();
+      List<Point> result = new ArrayList<Point>(n);
+      int span = Math.max(1, max / (2 * k));
+      for (int l = 0; l < lines && result.size() + k <= n; l++) {
+         int dx = rnd.nextInt(2 * span + 1) - span;
+         int dy = rnd.nextInt(span) + 1;
+         int x0 = dx < 0 ? max - rnd.nextInt(max / 2 + 1)
+                         : rnd.nextInt(max / 2 + 1);
+         int y0 = rnd.nextInt(max / 2 + 1);
+         for (int i = 0; i < k; i++) {
+            int x = x0 + i * dx + jitter(jitter, rnd);
+            int y = y0 + i * dy + jitter(jitter, rnd);
+            if (x >= 0 && y >= 0) {
+               Point p = new Point(x, y);
+               if (seen.add(p)) {
+                  result.add(p);
+               }
+            }
+         }
+      }
+      fillUniform(result, seen, n, max, rnd);
+      Collections.shuffle(result, rnd);
+      return result;
+   }
+
+   /**
+    * Returns n points on a family of parallel lines of slope one, about
+    * sqrt(n) lines of about sqrt(n) points each. Every anchor sees long runs
+    * of equal slopes, which defeats any shortcut that relies on slopes being
+    * mostly distinct.
+    */
+   public static List<Point> duplicateSlopes(int n, Random rnd) {
+      int side = (int) Math.ceil(Math.sqrt(n));
+      List<Point> result = new ArrayList<Point>(n);
+      for (int i = 0; i < n; i++) {
+         int line = i / side;
+         int step = i % side;
+         result.add(new Point(step, 2 * line + step));
+      }
+      Collections.shuffle(result, rnd);
+      return result;
+   }
+
+   /**
+    * Writes points to the named file in the format read by Extractor.
+    */
+   public static void write(List<Point> points, String filename)
+           throws FileNotFoundException {
+      try (PrintWriter out = new PrintWriter(filename)) {
+         out.println(points.size());
+         for (Point p : points) {
+            out.println(p.getX() + " " + p.getY());
+         }
+      }
+   }
+
+   /**
+    * Adds distinct uniform points to result until it holds n points.
+    */
+   private static void fillUniform(List<Point> result, SortedSet<Point> seen,
+           int n, int max, Random rnd) {
+      while (result.size() < n) {
+         Point p = new Point(rnd.nextInt(max + 1), rnd.nextInt(max + 1));
+         if (seen.add(p)) {
+            result.add(p);
+         }
+      }
+   }
+
+   /**
+    * Returns a random offset in [-amount, amount].
+    */
+   private static int jitter(int amount, Random rnd) {
+      return amount == 0 ? 0 : rnd.nextInt(2 * amount + 1) - amount;
+   }
+}
@@ -0,0 +1,316 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates an instance of the WeightedRandomizedList.java interface for
+ * weights that rarely change. sample uses Vose's alias method: every
+ * position i gets a probability prob[i] and an alias alias[i], and a sample
+ * picks a position uniformly and then keeps it with probability prob[i] or
+ * takes its alias otherwise, which is O(1) no matter how uneven the weights.
+ *
+ * Building the table is O(n), and any add, remove or updateWeight makes it
+ * stale, so it is rebuilt lazily at the next sample or remove. The list pays
+ * off when many samples are drawn between changes; FenwickWeightedList is
+ * the better choice when weights change as often as they are sampled.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class AliasWeightedList<T> implements WeightedRandomizedList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private T[] elements;
+    private double[] weights;
+    private int size;
+    private double[] prob;
+    private int[] alias;
+    private boolean stale;
+    private final RandomGenerator random;
+
+    /** Constructs an empty AliasWeightedList object. */
+    public AliasWeightedList() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs an empty AliasWeightedList object that makes its random
+     * choices with the given generator.
+     *
+     * @throws IllegalArgumentException if random is null
+     * @param random - the source of randomness
+     */
+    @SuppressWarnings("unchecked")
+    public AliasWeightedList(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException();
+        }
+        elements = (T[]) new Object[DEFAULT_CAPACITY];
+        weights = new double[DEFAULT_CAPACITY];
+        prob = new double[0];
+        alias = new int[0];
+        size = 0;
+        stale = true;
+        this.random = random;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list contains any elements.
+     *
+     * @return true if size() is equal to 0, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the list in uniformly random order.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ShuffleIterator();
+    }
+
+    /**
+     * Returns the sum of the weights of the elements in the list.
+     *
+     * @return the total weight
+     */
+    @Override
+    public double totalWeight() {
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+        return total;
+    }
+
+    /**
+     * Adds the specified element to the list with the given weight.
+     *
+     * @throws IllegalArgumentException if element is null or weight is not
+     * a positive finite number
+     * @param element - the element to be added
+     * @param weight - the weight of the element
+     */
+    @Override
+    public void add(T element, double weight) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        checkWeight(weight);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+            weights = Arrays.copyOf(weights, weights.length * 2);
+        }
+        elements[size] = element;
+        weights[size] = weight;
+        size++;
+        stale = true;
+    }
+
+    /**
+     * Changes the weight of the first occurrence of the specified element,
+     * found by a linear search.
+     *
+     * @throws IllegalArgumentException if weight is not a positive finite
+     * number
+     * @param element - the element whose weight changes
+     * @param weight - the new weight
+     * @return true if the element was found, false otherwise
+     */
+    @Override
+    public boolean updateWeight(T element, double weight) {
+        checkWeight(weight);
+        for (int i = 0; i < size; i++) {
+            if (elements[i].equals(element)) {
+                weights[i] = weight;
+                stale = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes an element chosen with probability proportional to its weight.
+     * Returns null if the list is empty.
+     *
+     * @return the element that was removed
+     */
+    @Override
+    public T remove() {
+        if (isEmpty()) {
+            return null;
+        }
+        int index = select();
+        T removed = elements[index];
+        elements[index] = elements[size - 1];
+        weights[index] = weights[size - 1];
+        elements[size - 1] = null;
+        size--;
+        stale = true;
+        return removed;
+    }
+
+    /**
+     * Selects an element with probability proportional to its weight.
+     * Returns null if the list is empty.
+     *
+     * @return the selected element
+     */
+    @Override
+    public T sample() {
+        if (isEmpty()) {
+            return null;
+        }
+        return elements[select()];
+    }
+
+    /**
+     * Selects k elements one after another, each with probability
+     * proportional to its weight among those not yet selected. Every element
+     * gets the key u^(1/weight) for a uniform u, and the k largest keys win
+     * (Efraimidis and Spirakis), which gives the same distribution in one
+     * O(n log k) pass without touching the alias table.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @param k - the number of elements to select
+     * @return the selected elements
+     */
+    @Override
+    public Collection<T> sample(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(k, size);
+        Collection<T> selected = new ArrayList<T>(count);
+        if (count == 0) {
+            return selected;
+        }
+        PriorityQueue<double[]> best = new PriorityQueue<double[]>(count,
+            (a, b) -> Double.compare(a[0], b[0]));
+        for (int i = 0; i < size; i++) {
+            double key = Math.log(random.nextDouble()) / weights[i];
+            if (best.size() < count) {
+                best.add(new double[] {key, i});
+            } else if (key > best.peek()[0]) {
+                best.poll();
+                best.add(new double[] {key, i});
+            }
+        }
+        for (double[] entry : best) {
+            selected.add(elements[(int) entry[1]]);
+        }
+        return selected;
+    }
+
+    /**
+     * Rebuilds the alias table if needed and draws a position from it.
+     *
+     * @return the selected position
+     */
+    private int select() {
+        if (stale) {
+            build();
+        }
+        int index = random.nextInt(size);
+        return random.nextDouble() < prob[index] ? index : alias[index];
+    }
+
+    /**
+     * Builds the alias table for the current weights with Vose's method.
+     * Each weight is scaled so that the average is 1; positions below 1 are
+     * topped up from positions above 1, which become their aliases.
+     */
+    private void build() {
+        if (prob.length < size) {
+            prob = new double[elements.length];
+            alias = new int[elements.length];
+        }
+        double scale = size / totalWeight();
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            prob[i] = weights[i] * scale;
+            if (prob[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            alias[less] = more;
+            prob[more] = (prob[more] + prob[less]) - 1.0;
+            if (prob[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding error.
+        while (largeCount > 0) {
+            prob[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            prob[small[--smallCount]] = 1.0;
+        }
+        stale = false;
+    }
+
+    /**
+     * Checks that a weight is a positive finite number.
+     *
+     * @throws IllegalArgumentException if it is not
+     * @param weight - the weight to check
+     */
+    private static void checkWeight(double weight) {
+        if (!(weight > 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Iterates over the list in the order of a LazyShuffle of its positions.
+     */
+    private class ShuffleIterator implements Iterator<T> {
+        private final T[] items = elements;
+        private final LazyShuffle order = new LazyShuffle(size, random);
+
+        @Override
+        public boolean hasNext() {
+            return order.hasNext();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T next() {
+            return items[order.nextPosition()];
+        }
+    }
+}
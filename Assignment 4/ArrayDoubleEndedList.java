@@ -0,0 +1,314 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Creates an instance of the DoubleEndedList.java interface backed by a
+ * circular array. Elements are added and removed at either end in amortized
+ * constant time. The capacity is always a power of two so that positions
+ * wrap around with a bit mask, it doubles when the array is full, and it
+ * halves when the list falls to a quarter of the array.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class ArrayDoubleEndedList<T> implements DoubleEndedList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private T[] elements;
+    private int front;
+    private int size;
+
+    /** Constructs an ArrayDoubleEndedList object with a capacity of 8. */
+    public ArrayDoubleEndedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an ArrayDoubleEndedList object with room for at least the
+     * number of elements specified by the parameter.
+     *
+     * @param cap - initial capacity of the list
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayDoubleEndedList(int cap) {
+        elements = (T[]) new Object[powerOfTwo(cap)];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates an iterator over the list from front to rear.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RingIterator();
+    }
+
+    /**
+     * Creates a spliterator over the list from front to rear. It reports
+     * SIZED and SUBSIZED and splits its range of the ring exactly in half,
+     * so parallel streams divide the work evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RingSpliterator(0, size);
+    }
+
+    /**
+     * Adds an element to the front of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addFirst(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == elements.length) {
+            resize(elements.length * 2);
+        }
+        front = (front - 1) & (elements.length - 1);
+        elements[front] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addLast(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == elements.length) {
+            resize(elements.length * 2);
+        }
+        elements[(front + size) & (elements.length - 1)] = element;
+        size++;
+    }
+
+    /**
+     * Removes the element at the front of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        T removed = elements[front];
+        elements[front] = null;
+        front = (front + 1) & (elements.length - 1);
+        size--;
+        shrinkIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes the element at the end of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        int rear = (front + size - 1) & (elements.length - 1);
+        T removed = elements[rear];
+        elements[rear] = null;
+        size--;
+        shrinkIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes up to max elements from the front of the list and adds them, in
+     * order, to the given collection. The array is shrunk at most once,
+     * after all of the elements have been moved.
+     *
+     * @throws IllegalArgumentException if max is negative
+     * @param target - the collection that receives the elements
+     * @param max - the largest number of elements to move
+     * @return the number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            target.add(elements[front]);
+            elements[front] = null;
+            front = (front + 1) & (elements.length - 1);
+            size--;
+        }
+        int cap = elements.length;
+        while (cap > DEFAULT_CAPACITY && size <= cap / 4) {
+            cap /= 2;
+        }
+        if (cap != elements.length) {
+            resize(cap);
+        }
+        return count;
+    }
+
+    /**
+     * Halves the array when the list uses no more than a quarter of it, so
+     * that a list that grew large and then drained gives its memory back.
+     */
+    private void shrinkIfSparse() {
+        if (elements.length > DEFAULT_CAPACITY
+            && size <= elements.length / 4) {
+            resize(elements.length / 2);
+        }
+    }
+
+    /**
+     * Copies the elements into a new array of the given capacity, front
+     * first.
+     *
+     * @param cap - the new capacity of the array, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int cap) {
+        T[] a = (T[]) new Object[cap];
+        int firstPart = Math.min(size, elements.length - front);
+        System.arraycopy(elements, front, a, 0, firstPart);
+        System.arraycopy(elements, 0, a, firstPart, size - firstPart);
+        elements = a;
+        front = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least cap and at least 1.
+     *
+     * @param cap - the requested capacity
+     * @return the capacity to allocate
+     */
+    private static int powerOfTwo(int cap) {
+        if (cap < 0) {
+            throw new IllegalArgumentException();
+        }
+        return cap <= 1 ? 1 : Integer.highestOneBit(cap - 1) << 1;
+    }
+
+    /**
+     * Traverses the elements at offsets lo to hi - 1 from the front.
+     */
+    private class RingSpliterator implements Spliterator<T> {
+
+        private int lo;
+        private final int hi;
+
+        /**
+         * Constructs a RingSpliterator object over a range of offsets.
+         *
+         * @param lo - the first offset, inclusive
+         * @param hi - the last offset, exclusive
+         */
+        RingSpliterator(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (lo >= hi) {
+                return false;
+            }
+            action.accept(elements[(front + lo++) & (elements.length - 1)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] a = elements;
+            int mask = a.length - 1;
+            for (int i = lo; i < hi; i++) {
+                action.accept(a[(front + i) & mask]);
+            }
+            lo = hi;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (lo + hi) >>> 1;
+            if (mid <= lo) {
+                return null;
+            }
+            Spliterator<T> prefix = new RingSpliterator(lo, mid);
+            lo = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return hi - lo;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * Iterates over the list from front to rear.
+     */
+    private class RingIterator implements Iterator<T> {
+
+        private int count = 0;
+
+        @Override
+        public boolean hasNext() {
+            return count < size;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[(front + count++) & (elements.length - 1)];
+        }
+    }
+}
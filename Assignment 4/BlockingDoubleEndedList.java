@@ -0,0 +1,78 @@
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlockingDoubleEndedList.java. Describes a double-ended list with a fixed
+ * capacity that threads use to hand elements to each other. The put methods
+ * wait for space when the list is full and the take methods wait for an
+ * element when it is empty, so a fast producer is held back instead of
+ * growing the list without limit, and a consumer sleeps instead of polling.
+ * The timed offer and poll methods give up after the given time.
+ *
+ * The inherited addFirst and addLast never wait: if the list is full they
+ * throw an IllegalStateException. The inherited removeFirst and removeLast
+ * never wait either and return null if the list is empty.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface BlockingDoubleEndedList<T> extends DoubleEndedList<T> {
+
+   /**
+    * Adds element to the front of the list, waiting for space if necessary.
+    * If element is null, this method throws an IllegalArgumentException.
+    */
+   void putFirst(T element) throws InterruptedException;
+
+   /**
+    * Adds element to the end of the list, waiting for space if necessary.
+    * If element is null, this method throws an IllegalArgumentException.
+    */
+   void putLast(T element) throws InterruptedException;
+
+   /**
+    * Adds element to the front of the list, waiting up to the given time for
+    * space. Returns true if the element was added, false if time ran out.
+    * If element is null, this method throws an IllegalArgumentException.
+    */
+   boolean offerFirst(T element, long timeout, TimeUnit unit)
+      throws InterruptedException;
+
+   /**
+    * Adds element to the end of the list, waiting up to the given time for
+    * space. Returns true if the element was added, false if time ran out.
+    * If element is null, this method throws an IllegalArgumentException.
+    */
+   boolean offerLast(T element, long timeout, TimeUnit unit)
+      throws InterruptedException;
+
+   /**
+    * Delete and return the element at the front of the list, waiting for one
+    * if necessary.
+    */
+   T takeFirst() throws InterruptedException;
+
+   /**
+    * Delete and return the element at the end of the list, waiting for one
+    * if necessary.
+    */
+   T takeLast() throws InterruptedException;
+
+   /**
+    * Delete and return the element at the front of the list, waiting up to
+    * the given time for one. If time runs out, this method returns null.
+    */
+   T pollFirst(long timeout, TimeUnit unit) throws InterruptedException;
+
+   /**
+    * Delete and return the element at the end of the list, waiting up to the
+    * given time for one. If time runs out, this method returns null.
+    */
+   T pollLast(long timeout, TimeUnit unit) throws InterruptedException;
+
+   /**
+    * Returns the number of elements that can be added before the list is
+    * full.
+    */
+   int remainingCapacity();
+
+}
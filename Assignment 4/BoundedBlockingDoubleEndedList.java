@@ -0,0 +1,530 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates an instance of the BlockingDoubleEndedList.java interface backed by
+ * a circular array of fixed capacity. One ReentrantLock guards the array,
+ * with a notEmpty condition that takers wait on and a notFull condition that
+ * putters wait on.
+ *
+ * drainTo moves a whole batch under a single acquisition of the lock and
+ * wakes the waiting producers once for the batch, instead of once per
+ * element. The iterator works on a copy taken under the lock, so it never
+ * throws ConcurrentModificationException and does not see later changes.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class BoundedBlockingDoubleEndedList<T>
+        implements BlockingDoubleEndedList<T> {
+
+    private final Object[] elements;
+    private int front;
+    private int size;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+
+    /**
+     * Constructs an empty BoundedBlockingDoubleEndedList object that holds
+     * at most the number of elements specified by the parameter.
+     *
+     * @throws IllegalArgumentException if capacity is less than 1
+     * @param capacity - the largest number of elements in the list
+     */
+    public BoundedBlockingDoubleEndedList(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        elements = new Object[capacity];
+        front = 0;
+        size = 0;
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        notFull = lock.newCondition();
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements that can be added before the list is
+     * full.
+     *
+     * @return the remaining capacity
+     */
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return elements.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates an iterator over a snapshot of the list from front to rear.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] copy;
+        lock.lock();
+        try {
+            copy = new Object[size];
+            for (int i = 0; i < size; i++) {
+                copy[i] = elements[index(i)];
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new SnapshotIterator(copy);
+    }
+
+    /**
+     * Adds an element to the front of the list without waiting.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @throws IllegalStateException if the list is full
+     * @param element - the element to be added
+     */
+    @Override
+    public void addFirst(T element) {
+        checkElement(element);
+        lock.lock();
+        try {
+            if (size == elements.length) {
+                throw new IllegalStateException("list is full");
+            }
+            linkFirst(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list without waiting.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @throws IllegalStateException if the list is full
+     * @param element - the element to be added
+     */
+    @Override
+    public void addLast(T element) {
+        checkElement(element);
+        lock.lock();
+        try {
+            if (size == elements.length) {
+                throw new IllegalStateException("list is full");
+            }
+            linkLast(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the front of the list, waiting for space.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     */
+    @Override
+    public void putFirst(T element) throws InterruptedException {
+        checkElement(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                notFull.await();
+            }
+            linkFirst(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list, waiting for space.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     */
+    @Override
+    public void putLast(T element) throws InterruptedException {
+        checkElement(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                notFull.await();
+            }
+            linkLast(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the front of the list, waiting up to the given time
+     * for space.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     * @param timeout - how long to wait
+     * @param unit - the unit of timeout
+     * @return true if the element was added, false if time ran out
+     */
+    @Override
+    public boolean offerFirst(T element, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkElement(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            linkFirst(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list, waiting up to the given time
+     * for space.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     * @param timeout - how long to wait
+     * @param unit - the unit of timeout
+     * @return true if the element was added, false if time ran out
+     */
+    @Override
+    public boolean offerLast(T element, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkElement(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == elements.length) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            linkLast(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the list without waiting.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeFirst() {
+        lock.lock();
+        try {
+            return size == 0 ? null : unlinkFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the end of the list without waiting.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeLast() {
+        lock.lock();
+        try {
+            return size == 0 ? null : unlinkLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the list, waiting for one.
+     *
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T takeFirst() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return unlinkFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the end of the list, waiting for one.
+     *
+     * @return the element that was removed from the list
+     */
+    @Override
+    public T takeLast() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return unlinkLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the list, waiting up to the given
+     * time for one.
+     *
+     * @param timeout - how long to wait
+     * @param unit - the unit of timeout
+     * @return the element that was removed, or null if time ran out
+     */
+    @Override
+    public T pollFirst(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return unlinkFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the end of the list, waiting up to the given
+     * time for one.
+     *
+     * @param timeout - how long to wait
+     * @param unit - the unit of timeout
+     * @return the element that was removed, or null if time ran out
+     */
+    @Override
+    public T pollLast(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return unlinkLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to max elements from the front of the list and adds them, in
+     * order, to the given collection, without waiting. The whole batch is
+     * moved under one acquisition of the lock and waiting producers are
+     * woken once at the end.
+     *
+     * @throws IllegalArgumentException if max is negative
+     * @param target - the collection that receives the elements
+     * @param max - the largest number of elements to move
+     * @return the number of elements moved
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int count = Math.min(max, size);
+            int moved = 0;
+            try {
+                while (moved < count) {
+                    target.add((T) elements[front]);
+                    elements[front] = null;
+                    front = index(1);
+                    size--;
+                    moved++;
+                }
+            } finally {
+                if (moved > 0) {
+                    notFull.signalAll();
+                }
+            }
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the front. The lock must be held and the list
+     * must not be full.
+     *
+     * @param element - the element to be added
+     */
+    private void linkFirst(T element) {
+        front = index(elements.length - 1);
+        elements[front] = element;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Inserts an element at the end. The lock must be held and the list must
+     * not be full.
+     *
+     * @param element - the element to be added
+     */
+    private void linkLast(T element) {
+        elements[index(size)] = element;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the element at the front. The lock must be held and the list
+     * must not be empty.
+     *
+     * @return the element that was removed
+     */
+    @SuppressWarnings("unchecked")
+    private T unlinkFirst() {
+        T removed = (T) elements[front];
+        elements[front] = null;
+        front = index(1);
+        size--;
+        notFull.signal();
+        return removed;
+    }
+
+    /**
+     * Removes the element at the end. The lock must be held and the list
+     * must not be empty.
+     *
+     * @return the element that was removed
+     */
+    @SuppressWarnings("unchecked")
+    private T unlinkLast() {
+        int rear = index(size - 1);
+        T removed = (T) elements[rear];
+        elements[rear] = null;
+        size--;
+        notFull.signal();
+        return removed;
+    }
+
+    /**
+     * Returns the array position that is offset places after the front.
+     *
+     * @param offset - the distance from the front, less than the capacity
+     * @return the array position
+     */
+    private int index(int offset) {
+        int i = front + offset;
+        return i >= elements.length ? i - elements.length : i;
+    }
+
+    /**
+     * Rejects null elements.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to check
+     */
+    private static void checkElement(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Iterates over a copy of the list from front to rear.
+     */
+    private class SnapshotIterator implements Iterator<T> {
+        private final Object[] items;
+        private int current;
+
+        /**
+         * Constructs a SnapshotIterator object over the given copy.
+         *
+         * @param items - the copied elements, front first
+         */
+        SnapshotIterator(Object[] items) {
+            this.items = items;
+            current = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current < items.length;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) items[current++];
+        }
+    }
+}
@@ -0,0 +1,274 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Creates an instance of the DoubleEndedList.java interface as an unrolled
+ * linked list. Instead of one node per element, each node is a chunk that
+ * holds up to 64 elements in an array, between a head offset and a tail
+ * offset, with links to the chunks on either side. Adding or removing at
+ * either end touches only the end chunk, so both are constant time, and
+ * iteration walks whole arrays instead of following a pointer per element.
+ *
+ * A chunk emptied by a remove is kept in a small pool and handed out again
+ * by the next add that needs one, so a list that keeps growing and
+ * shrinking by a few chunks allocates nothing once it is warmed up.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class ChunkedDoubleEndedList<T> implements DoubleEndedList<T> {
+
+    private static final int CHUNK_SIZE = 64;
+    private static final int POOL_LIMIT = 4;
+    private Chunk head;
+    private Chunk tail;
+    private Chunk pool;
+    private int pooled;
+    private int size;
+
+    /** Constructs an empty ChunkedDoubleEndedList object. */
+    public ChunkedDoubleEndedList() {
+        head = new Chunk();
+        head.center();
+        tail = head;
+        pool = null;
+        pooled = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates an iterator over the list from front to rear.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * Creates a spliterator over the list from front to rear. Like the
+     * iterator it walks the chunks in order, handing out batches of elements
+     * copied into arrays, each batch larger than the last, which parallel
+     * streams can then split evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Adds an element to the front of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addFirst(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        if (head.start == 0) {
+            Chunk c = obtain();
+            c.start = CHUNK_SIZE;
+            c.end = CHUNK_SIZE;
+            c.next = head;
+            head.prev = c;
+            head = c;
+        }
+        head.start--;
+        head.items[head.start] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addLast(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        if (tail.end == CHUNK_SIZE) {
+            Chunk c = obtain();
+            c.start = 0;
+            c.end = 0;
+            c.prev = tail;
+            tail.next = c;
+            tail = c;
+        }
+        tail.items[tail.end] = element;
+        tail.end++;
+        size++;
+    }
+
+    /**
+     * Removes the element at the front of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        T removed = (T) head.items[head.start];
+        head.items[head.start] = null;
+        head.start++;
+        size--;
+        if (head.start == head.end) {
+            if (head == tail) {
+                head.center();
+            } else {
+                Chunk empty = head;
+                head = head.next;
+                head.prev = null;
+                recycle(empty);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the element at the end of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        tail.end--;
+        T removed = (T) tail.items[tail.end];
+        tail.items[tail.end] = null;
+        size--;
+        if (tail.start == tail.end) {
+            if (head == tail) {
+                tail.center();
+            } else {
+                Chunk empty = tail;
+                tail = tail.prev;
+                tail.next = null;
+                recycle(empty);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a chunk from the pool, or a new one if the pool is empty.
+     *
+     * @return an empty, unlinked chunk
+     */
+    private Chunk obtain() {
+        if (pool == null) {
+            return new Chunk();
+        }
+        Chunk c = pool;
+        pool = c.next;
+        c.next = null;
+        pooled--;
+        return c;
+    }
+
+    /**
+     * Puts an emptied chunk back in the pool unless the pool is full. Its
+     * slots have already been cleared by the removes that emptied it.
+     *
+     * @param c - the chunk that is no longer in the list
+     */
+    private void recycle(Chunk c) {
+        c.prev = null;
+        c.next = null;
+        if (pooled < POOL_LIMIT) {
+            c.next = pool;
+            pool = c;
+            pooled++;
+        }
+    }
+
+    /**
+     * Holds up to CHUNK_SIZE elements in items[start] to items[end - 1].
+     */
+    private static final class Chunk {
+        private final Object[] items = new Object[CHUNK_SIZE];
+        private int start;
+        private int end;
+        private Chunk prev;
+        private Chunk next;
+
+        /**
+         * Moves the empty range to the middle, so the only chunk of the list
+         * has room to grow in both directions.
+         */
+        void center() {
+            start = CHUNK_SIZE / 2;
+            end = CHUNK_SIZE / 2;
+        }
+    }
+
+    /**
+     * Iterates over the list from front to rear, one chunk at a time.
+     */
+    private class ChunkIterator implements Iterator<T> {
+
+        private Chunk current = head;
+        private int index = head.start;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (index == current.end) {
+                current = current.next;
+                index = current.start;
+            }
+            remaining--;
+            return (T) current.items[index++];
+        }
+    }
+}
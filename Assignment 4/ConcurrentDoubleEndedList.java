@@ -0,0 +1,175 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates an instance of the DoubleEndedList.java interface that many
+ * threads can share without locking. The elements are kept in a
+ * java.util.concurrent.ConcurrentLinkedDeque, a lock-free linked deque in
+ * which addFirst, addLast, removeFirst and removeLast are each a short
+ * sequence of compare-and-set steps on the end nodes. Every one of these
+ * operations is linearizable, so no thread ever waits on another and
+ * throughput does not collapse into a lock convoy as threads are added.
+ *
+ * The iterator is weakly consistent: it never throws
+ * ConcurrentModificationException, returns each element at most once, and
+ * may or may not reflect changes made after it was created. The size is
+ * kept in a LongAdder, so reading it is cheap and updating it scales across
+ * threads; while other threads are adding or removing, the value returned
+ * may be momentarily out of date.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class ConcurrentDoubleEndedList<T> implements DoubleEndedList<T> {
+
+    private final ConcurrentLinkedDeque<T> deque;
+    private final LongAdder size;
+
+    /**
+     * Constructs an empty ConcurrentDoubleEndedList object.
+     */
+    public ConcurrentDoubleEndedList() {
+        deque = new ConcurrentLinkedDeque<T>();
+        size = new LongAdder();
+    }
+
+    /**
+     * Returns the size of the list. If other threads are changing the list,
+     * the result may lag behind their most recent operations.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    /**
+     * Determines if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    /**
+     * Creates a weakly consistent iterator over the list from front to rear.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new WeakIterator();
+    }
+
+    /**
+     * Adds an element to the front of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addFirst(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        deque.addFirst(element);
+        size.increment();
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element - the element to be added
+     */
+    @Override
+    public void addLast(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        deque.addLast(element);
+        size.increment();
+    }
+
+    /**
+     * Removes the element at the front of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeFirst() {
+        T removed = deque.pollFirst();
+        if (removed != null) {
+            size.decrement();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the element at the end of the list.
+     *
+     * @return the element that was removed from the list, or null if the
+     * list is empty
+     */
+    @Override
+    public T removeLast() {
+        T removed = deque.pollLast();
+        if (removed != null) {
+            size.decrement();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes up to max elements from the front of the list and adds them, in
+     * order, to the given collection. Each element is taken with a single
+     * poll, so an element removed by another thread in the meantime is
+     * simply skipped.
+     *
+     * @throws IllegalArgumentException if max is negative
+     * @param target - the collection that receives the elements
+     * @param max - the largest number of elements to move
+     * @return the number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = 0;
+        T removed;
+        while (count < max && (removed = removeFirst()) != null) {
+            target.add(removed);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Iterates over the list from front to rear without removal, so the
+     * size count cannot be bypassed.
+     */
+    private class WeakIterator implements Iterator<T> {
+
+        private final Iterator<T> itr = deque.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return itr.hasNext();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T next() {
+            return itr.next();
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.Collection;
 
 /**
  * DoubleEndedList.java. Describes the abstract behavior of a double-ended
@@ -33,4 +34,21 @@ public interface DoubleEndedList<T> extends List<T> {
     */
    T removeLast();
 
+   /**
+    * Removes up to max elements from the front of the list and adds them, in
+    * order, to the given collection. Returns the number of elements moved.
+    * If max is negative, this method throws an IllegalArgumentException.
+    */
+   default int drainTo(Collection<? super T> target, int max) {
+      if (max < 0) {
+         throw new IllegalArgumentException();
+      }
+      int count = 0;
+      while (count < max && !isEmpty()) {
+         target.add(removeFirst());
+         count++;
+      }
+      return count;
+   }
+
 }
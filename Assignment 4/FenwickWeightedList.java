@@ -0,0 +1,450 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates an instance of the WeightedRandomizedList.java interface for
+ * weights that change often. The elements are packed into an array as in
+ * RandomArrays, and their weights are kept in a Fenwick tree (binary indexed
+ * tree) over the same positions, so the sum of any prefix of weights is
+ * available in O(log n). Sampling draws a point in [0, totalWeight) and
+ * descends the tree to the element whose weight covers it.
+ *
+ * add, remove, sample and updateWeight are all O(log n). Changing a weight
+ * in place adds the difference to the tree, and each such addition can round
+ * off a little, most of all when a large weight is replaced by a small one.
+ * The tree is therefore rebuilt from the weights in O(n) once it has taken
+ * size() changes, or as soon as the changes add up to far more than the
+ * total weight, which keeps the amortized cost at O(log n). To find an element
+ * for updateWeight, the positions holding equal elements are chained
+ * together and the first of each chain is kept in a HashMap, so the
+ * elements must implement equals and hashCode consistently.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class FenwickWeightedList<T> implements WeightedRandomizedList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int NONE = -1;
+    private static final double DRIFT_LIMIT = 0x1p20;
+    private T[] elements;
+    private double[] weights;
+    private double[] tree;
+    private int[] nextEqual;
+    private int[] prevEqual;
+    private final Map<T, Integer> firstEqual;
+    private int size;
+    private int changes;
+    private double changed;
+    private final RandomGenerator random;
+
+    /** Constructs an empty FenwickWeightedList object. */
+    public FenwickWeightedList() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs an empty FenwickWeightedList object that makes its random
+     * choices with the given generator.
+     *
+     * @throws IllegalArgumentException if random is null
+     * @param random - the source of randomness
+     */
+    @SuppressWarnings("unchecked")
+    public FenwickWeightedList(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException();
+        }
+        elements = (T[]) new Object[DEFAULT_CAPACITY];
+        weights = new double[DEFAULT_CAPACITY];
+        tree = new double[DEFAULT_CAPACITY + 1];
+        nextEqual = new int[DEFAULT_CAPACITY];
+        prevEqual = new int[DEFAULT_CAPACITY];
+        firstEqual = new HashMap<T, Integer>();
+        size = 0;
+        this.random = random;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list contains any elements.
+     *
+     * @return true if size() is equal to 0, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the list in uniformly random order.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ShuffleIterator();
+    }
+
+    /**
+     * Returns the sum of the weights of the elements in the list.
+     *
+     * @return the total weight
+     */
+    @Override
+    public double totalWeight() {
+        return prefixSum(size);
+    }
+
+    /**
+     * Adds the specified element to the list with the given weight.
+     *
+     * @throws IllegalArgumentException if element is null or weight is not
+     * a positive finite number
+     * @param element - the element to be added
+     * @param weight - the weight of the element
+     */
+    @Override
+    public void add(T element, double weight) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        checkWeight(weight);
+        if (size == elements.length) {
+            resize(elements.length * 2);
+        }
+        elements[size] = element;
+        weights[size] = weight;
+        Integer first = firstEqual.put(element, size);
+        prevEqual[size] = NONE;
+        nextEqual[size] = first == null ? NONE : first;
+        if (first != null) {
+            prevEqual[first] = size;
+        }
+        treeAdd(size, weight);
+        size++;
+    }
+
+    /**
+     * Changes the weight of one occurrence of the specified element.
+     *
+     * @throws IllegalArgumentException if weight is not a positive finite
+     * number
+     * @param element - the element whose weight changes
+     * @param weight - the new weight
+     * @return true if the element was found, false otherwise
+     */
+    @Override
+    public boolean updateWeight(T element, double weight) {
+        checkWeight(weight);
+        Integer index = firstEqual.get(element);
+        if (index == null) {
+            return false;
+        }
+        change(index, weight - weights[index]);
+        weights[index] = weight;
+        rebuildIfDrifted();
+        return true;
+    }
+
+    /**
+     * Removes an element chosen with probability proportional to its weight.
+     * Returns null if the list is empty.
+     *
+     * @return the element that was removed
+     */
+    @Override
+    public T remove() {
+        if (isEmpty()) {
+            return null;
+        }
+        return removeAt(select());
+    }
+
+    /**
+     * Selects an element with probability proportional to its weight.
+     * Returns null if the list is empty.
+     *
+     * @return the selected element
+     */
+    @Override
+    public T sample() {
+        if (isEmpty()) {
+            return null;
+        }
+        return elements[select()];
+    }
+
+    /**
+     * Selects k elements one after another, each with probability
+     * proportional to its weight among those not yet selected. The weight of
+     * each selected element is taken out of the tree while the rest are
+     * chosen and put back afterwards, so this is O(k log n).
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @param k - the number of elements to select
+     * @return the selected elements
+     */
+    @Override
+    public Collection<T> sample(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(k, size);
+        int[] chosen = new int[count];
+        double[] saved = new double[count];
+        Collection<T> selected = new ArrayList<T>(count);
+        for (int i = 0; i < count; i++) {
+            chosen[i] = select();
+            saved[i] = weights[chosen[i]];
+            change(chosen[i], -saved[i]);
+            weights[chosen[i]] = 0.0;
+            selected.add(elements[chosen[i]]);
+        }
+        for (int i = 0; i < count; i++) {
+            change(chosen[i], saved[i]);
+            weights[chosen[i]] = saved[i];
+        }
+        rebuildIfDrifted();
+        return selected;
+    }
+
+    /**
+     * Draws a point in [0, totalWeight) and descends the tree to the
+     * position whose weight covers it. Positions whose weight sample has set
+     * to zero are never returned.
+     *
+     * @return the selected position
+     */
+    private int select() {
+        double target = random.nextDouble() * totalWeight();
+        int position = 0;
+        for (int step = Integer.highestOneBit(elements.length); step > 0;
+             step >>= 1) {
+            int next = position + step;
+            if (next <= elements.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        // Rounding can carry the descent past the last weight or onto a
+        // position with none left; step back to the nearest one with weight.
+        position = Math.min(position, size - 1);
+        int back = position;
+        while (back >= 0 && weights[back] == 0.0) {
+            back--;
+        }
+        if (back >= 0) {
+            return back;
+        }
+        while (weights[position] == 0.0) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Removes the element at the given position by moving the last element
+     * into its place.
+     *
+     * @param index - the position to remove
+     * @return the element that was removed
+     */
+    private T removeAt(int index) {
+        T removed = elements[index];
+        unlink(index);
+        change(index, -weights[index]);
+        int last = size - 1;
+        if (index != last) {
+            change(last, -weights[last]);
+            change(index, weights[last]);
+            move(last, index);
+        }
+        elements[last] = null;
+        size--;
+        rebuildIfDrifted();
+        return removed;
+    }
+
+    /**
+     * Takes the given position out of the chain of equal elements.
+     *
+     * @param index - the position to unlink
+     */
+    private void unlink(int index) {
+        int prev = prevEqual[index];
+        int next = nextEqual[index];
+        if (prev != NONE) {
+            nextEqual[prev] = next;
+        } else if (next != NONE) {
+            firstEqual.put(elements[index], next);
+        } else {
+            firstEqual.remove(elements[index]);
+        }
+        if (next != NONE) {
+            prevEqual[next] = prev;
+        }
+    }
+
+    /**
+     * Moves the element, weight and chain links at one position to another
+     * and points its chain neighbors at the new position.
+     *
+     * @param from - the old position
+     * @param to - the new position
+     */
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        weights[to] = weights[from];
+        prevEqual[to] = prevEqual[from];
+        nextEqual[to] = nextEqual[from];
+        if (prevEqual[to] != NONE) {
+            nextEqual[prevEqual[to]] = to;
+        } else {
+            firstEqual.put(elements[to], to);
+        }
+        if (nextEqual[to] != NONE) {
+            prevEqual[nextEqual[to]] = to;
+        }
+    }
+
+    /**
+     * Adds delta to the weight at the given position in the tree.
+     *
+     * @param index - the position, starting at 0
+     * @param delta - the change in weight
+     */
+    private void treeAdd(int index, double delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Adds delta to the weight at the given position in the tree and counts
+     * it toward the rounding error that rebuildIfDrifted bounds.
+     *
+     * @param index - the position, starting at 0
+     * @param delta - the change in weight
+     */
+    private void change(int index, double delta) {
+        treeAdd(index, delta);
+        changes++;
+        changed += Math.abs(delta);
+    }
+
+    /**
+     * Rebuilds the tree from the weights if the list is empty, if the tree
+     * has taken size() changes since it was last built, or if those changes
+     * add up to more than DRIFT_LIMIT times the total weight. Each change
+     * can be off by a rounding error relative to the sums it passes
+     * through, so once they dwarf the total, the tree may no longer match
+     * the weights.
+     */
+    private void rebuildIfDrifted() {
+        if (size == 0 || changes >= size
+                || changed > DRIFT_LIMIT * totalWeight()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the sum of the weights at positions 0 to count - 1.
+     *
+     * @param count - the number of positions to sum
+     * @return the prefix sum
+     */
+    private double prefixSum(int count) {
+        double sum = 0.0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Resizes the arrays to the given capacity and rebuilds the tree from
+     * the weights in O(n).
+     *
+     * @param cap - the new capacity, a power of two
+     */
+    private void resize(int cap) {
+        elements = Arrays.copyOf(elements, cap);
+        weights = Arrays.copyOf(weights, cap);
+        nextEqual = Arrays.copyOf(nextEqual, cap);
+        prevEqual = Arrays.copyOf(prevEqual, cap);
+        tree = new double[cap + 1];
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the tree from the weights in O(n), discarding the rounding
+     * errors left by earlier changes.
+     */
+    private void rebuild() {
+        Arrays.fill(tree, 0.0);
+        // Every node passes its sum up, even past the last element, so the
+        // nodes that cover the end of the list get the whole of it.
+        for (int i = 1; i < tree.length; i++) {
+            if (i <= size) {
+                tree[i] += weights[i - 1];
+            }
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        changes = 0;
+        changed = 0.0;
+    }
+
+    /**
+     * Checks that a weight is a positive finite number.
+     *
+     * @throws IllegalArgumentException if it is not
+     * @param weight - the weight to check
+     */
+    private static void checkWeight(double weight) {
+        if (!(weight > 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Iterates over the list in the order of a LazyShuffle of its positions.
+     */
+    private class ShuffleIterator implements Iterator<T> {
+        private final T[] items = elements;
+        private final LazyShuffle order = new LazyShuffle(size, random);
+
+        @Override
+        public boolean hasNext() {
+            return order.hasNext();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T next() {
+            return items[order.nextPosition()];
+        }
+    }
+}
@@ -0,0 +1,166 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Creates an instance of the IntDoubleEndedList interface backed by a
+ * circular int[] array. It works like ArrayDoubleEndedList: the capacity is
+ * a power of two so positions wrap around with a bit mask, it doubles when
+ * the array is full and halves when the list falls to a quarter of the
+ * array. No value is ever boxed.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class IntArrayDoubleEndedList implements IntDoubleEndedList {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private int[] elements;
+    private int front;
+    private int size;
+
+    /** Constructs an IntArrayDoubleEndedList object with a capacity of 8. */
+    public IntArrayDoubleEndedList() {
+        elements = new int[DEFAULT_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates an iterator over the list from front to rear.
+     *
+     * @return an iterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new RingIterator();
+    }
+
+    /**
+     * Adds a value to the front of the list.
+     *
+     * @param element - the value to be added
+     */
+    @Override
+    public void addFirst(int element) {
+        if (size == elements.length) {
+            resize(elements.length * 2);
+        }
+        front = (front - 1) & (elements.length - 1);
+        elements[front] = element;
+        size++;
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param element - the value to be added
+     */
+    @Override
+    public void addLast(int element) {
+        if (size == elements.length) {
+            resize(elements.length * 2);
+        }
+        elements[(front + size) & (elements.length - 1)] = element;
+        size++;
+    }
+
+    /**
+     * Removes the value at the front of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the value that was removed from the list
+     */
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int removed = elements[front];
+        front = (front + 1) & (elements.length - 1);
+        size--;
+        shrinkIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes the value at the end of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the value that was removed from the list
+     */
+    @Override
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int removed = elements[(front + size - 1) & (elements.length - 1)];
+        size--;
+        shrinkIfSparse();
+        return removed;
+    }
+
+    /**
+     * Halves the array when the list uses no more than a quarter of it.
+     */
+    private void shrinkIfSparse() {
+        if (elements.length > DEFAULT_CAPACITY
+            && size <= elements.length / 4) {
+            resize(elements.length / 2);
+        }
+    }
+
+    /**
+     * Copies the values into a new array of the given capacity, front first.
+     *
+     * @param cap - the new capacity of the array, a power of two
+     */
+    private void resize(int cap) {
+        int[] a = new int[cap];
+        int firstPart = Math.min(size, elements.length - front);
+        System.arraycopy(elements, front, a, 0, firstPart);
+        System.arraycopy(elements, 0, a, firstPart, size - firstPart);
+        elements = a;
+        front = 0;
+    }
+
+    /**
+     * Iterates over the list from front to rear.
+     */
+    private class RingIterator implements PrimitiveIterator.OfInt {
+
+        private int count = 0;
+
+        @Override
+        public boolean hasNext() {
+            return count < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[(front + count++) & (elements.length - 1)];
+        }
+    }
+}
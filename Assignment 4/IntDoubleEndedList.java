@@ -0,0 +1,43 @@
+import java.util.PrimitiveIterator;
+
+/**
+ * IntDoubleEndedList.java. Describes a double-ended list of int values. It
+ * behaves like a DoubleEndedList<Integer> but stores the values unboxed.
+ * Because an int cannot be null, removeFirst and removeLast throw a
+ * NoSuchElementException on an empty list instead of returning null.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface IntDoubleEndedList extends List<Integer> {
+
+   /**
+    * Adds element to the front of the list.
+    */
+   void addFirst(int element);
+
+   /**
+    * Adds element to the end of the list.
+    */
+   void addLast(int element);
+
+   /**
+    * Delete and return the value at the front of the list.
+    * If the list is empty, this method throws a NoSuchElementException.
+    */
+   int removeFirst();
+
+   /**
+    * Delete and return the value at the end of the list.
+    * If the list is empty, this method throws a NoSuchElementException.
+    */
+   int removeLast();
+
+   /**
+    * Creates and returns an iterator over the values of this list from front
+    * to rear, without boxing them.
+    */
+   @Override
+   PrimitiveIterator.OfInt iterator();
+
+}
@@ -0,0 +1,139 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates an instance of the IntRandomizedList interface backed by a
+ * int[] array. It works like RandomArrays: values are appended at the end,
+ * and a removed value is replaced by the last one, so add, remove and sample
+ * are all constant time. No value is ever boxed.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class IntRandomArrays implements IntRandomizedList {
+
+    private int[] elements;
+    private int size;
+    private final RandomGenerator random;
+    private static final int DEFAULT_CAPACITY = 5;
+
+    /** Constructs an IntRandomArrays object with a capacity of 5. */
+    public IntRandomArrays() {
+        this(DEFAULT_CAPACITY, new SplittableRandom());
+    }
+
+    /**
+     * Constructs an IntRandomArrays object with the capacity and the source
+     * of randomness specified by the parameters.
+     *
+     * @throws IllegalArgumentException if random is null
+     * @param cap - capacity of the IntRandomArrays object.
+     * @param random - the source of randomness
+     */
+    public IntRandomArrays(int cap, RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException();
+        }
+        elements = new int[cap];
+        size = 0;
+        this.random = random;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the list contains any elements.
+     *
+     * @return true if size() is equal to 0, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the list in uniformly random order.
+     *
+     * @return new ShuffleIterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new ShuffleIterator();
+    }
+
+    /**
+     * Adds the specified value to the list. If the list is full, it is
+     * resized.
+     *
+     * @param element - the value to be added
+     */
+    @Override
+    public void add(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(1, elements.length * 2));
+        }
+        elements[size] = element;
+        size++;
+    }
+
+    /**
+     * Removes a random value from the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the value that was removed
+     */
+    @Override
+    public int remove() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        int index = random.nextInt(size);
+        int removed = elements[index];
+        elements[index] = elements[size - 1];
+        size--;
+        return removed;
+    }
+
+    /**
+     * Selects a value from the list at random.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the selected value
+     */
+    @Override
+    public int sample() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elements[random.nextInt(size)];
+    }
+
+    /**
+     * Iterates over the list in the order of a LazyShuffle of its positions.
+     */
+    private class ShuffleIterator implements PrimitiveIterator.OfInt {
+        private final int[] items = elements;
+        private final LazyShuffle order = new LazyShuffle(size, random);
+
+        @Override
+        public boolean hasNext() {
+            return order.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return items[order.nextPosition()];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+import java.util.PrimitiveIterator;
+
+/**
+ * IntRandomizedList.java. Describes a randomized list of int values. It
+ * behaves like a RandomizedList<Integer> but stores the values unboxed, so
+ * an element costs the size of an int rather than a reference and an object.
+ * Because an int cannot be null, remove and sample throw a
+ * NoSuchElementException on an empty list instead of returning null.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface IntRandomizedList extends List<Integer> {
+
+   /**
+    * Adds the specified value to this list.
+    */
+   void add(int element);
+
+   /**
+    * Selects and removes a value selected uniformly at random from the values
+    * currently in the list. If the list is empty this method throws a
+    * NoSuchElementException.
+    */
+   int remove();
+
+   /**
+    * Selects but does not remove a value selected uniformly at random from
+    * the values currently in the list. If the list is empty this method
+    * throws a NoSuchElementException.
+    */
+   int sample();
+
+   /**
+    * Creates and returns an iterator over the values of this list in
+    * uniformly random order, without boxing them.
+    */
+   @Override
+   PrimitiveIterator.OfInt iterator();
+
+}
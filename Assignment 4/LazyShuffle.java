@@ -0,0 +1,146 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces the positions 0 to count - 1 in uniformly random order, one at a
+ * time, for the iterators of the array-backed randomized lists.
+ *
+ * The order is a Fisher-Yates shuffle carried out one step per call to
+ * nextPosition. Step k swaps position k with a random position at or after
+ * k in a virtual permutation, and only the positions that have been swapped
+ * away from their own index are stored, in a small open-addressing map.
+ * Each step is O(1), and taking the first k positions costs O(k) time and
+ * memory however large count is.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+final class LazyShuffle {
+
+    private static final int EMPTY = -1;
+    private final RandomGenerator random;
+    private final int count;
+    private int current;
+    private int[] keys;
+    private int[] values;
+    private int used;
+
+    /**
+     * Constructs a LazyShuffle object over the positions 0 to count - 1.
+     *
+     * @param count - the number of positions
+     * @param random - the source of randomness
+     */
+    LazyShuffle(int count, RandomGenerator random) {
+        this.random = random;
+        this.count = count;
+        current = 0;
+        keys = new int[8];
+        values = new int[8];
+        Arrays.fill(keys, EMPTY);
+        used = 0;
+    }
+
+    /**
+     * Determines if any positions are left.
+     *
+     * @return true if there is another position, false if not
+     */
+    boolean hasNext() {
+        return current < count;
+    }
+
+    /**
+     * Returns the next position of the shuffle.
+     *
+     * @return a position not returned before
+     */
+    int nextPosition() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int swap = current + random.nextInt(count - current);
+        int chosen = positionAt(swap);
+        if (swap != current) {
+            store(swap, positionAt(current));
+        }
+        current++;
+        return chosen;
+    }
+
+    /**
+     * Returns the entry of the virtual permutation at index i, which is i
+     * itself unless it has been swapped.
+     *
+     * @param i - an index of the permutation
+     * @return the position stored at i
+     */
+    private int positionAt(int i) {
+        int mask = keys.length - 1;
+        for (int slot = hash(i) & mask; keys[slot] != EMPTY;
+             slot = (slot + 1) & mask) {
+            if (keys[slot] == i) {
+                return values[slot];
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Sets the entry of the virtual permutation at index i.
+     *
+     * @param i - an index of the permutation
+     * @param position - the position to store at i
+     */
+    private void store(int i, int position) {
+        if (2 * (used + 1) > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = hash(i) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != i) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = i;
+            used++;
+        }
+        values[slot] = position;
+    }
+
+    /**
+     * Moves the stored entries into tables of the given capacity.
+     *
+     * @param cap - the new capacity, a power of two
+     */
+    private void rehash(int cap) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[cap];
+        values = new int[cap];
+        Arrays.fill(keys, EMPTY);
+        int mask = cap - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int slot = hash(oldKeys[j]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[j];
+                values[slot] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Spreads consecutive indexes over the table.
+     *
+     * @param i - an index of the permutation
+     * @return the hash of i
+     */
+    private static int hash(int i) {
+        int h = i * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,3 +1,5 @@
+import java.util.SplittableRandom;
+
 /**
  * ListFactory.java.
  * Implements the factory method pattern (https://en.wikipedia.org/wiki/Factory_method_pattern)
@@ -26,6 +28,116 @@ public class ListFactory {
       // Replace the following return statement with one that returns
       // an instance of the class you wrote to implement the
       // DoubleEndedList interface.
+      return new ArrayDoubleEndedList<T>();
+   }
+
+   /**
+    * Return a linked implementation of DoubleEndedList, kept for comparison
+    * with the array-backed one returned by makeDoubleEndedList.
+    */
+   public static <T> DoubleEndedList<T> makeNodeDoubleEndedList() {
+      return new NodeDoubleEndedList<T>();
+   }
+
+   /**
+    * Return a DoubleEndedList that many threads can share without locking.
+    */
+   public static <T> DoubleEndedList<T> makeConcurrentDoubleEndedList() {
+      return new ConcurrentDoubleEndedList<T>();
+   }
+
+   /**
+    * Return a RandomizedList that many threads can share, with elements
+    * spread over independently locked stripes.
+    */
+   public static <T> RandomizedList<T> makeConcurrentRandomizedList() {
+      return new StripedRandomizedList<T>();
+   }
+
+   /**
+    * Return a RandomizedList whose random choices are all determined by the
+    * given seed, so that a run can be replayed exactly.
+    */
+   public static <T> RandomizedList<T> makeRandomizedList(long seed) {
+      return new RandomArrays<T>(new SplittableRandom(seed));
+   }
+
+   /**
+    * Return a RandomizedList of int values that stores them unboxed.
+    */
+   public static IntRandomizedList makeIntRandomizedList() {
+      return new IntRandomArrays();
+   }
+
+   /**
+    * Return a DoubleEndedList of int values that stores them unboxed.
+    */
+   public static IntDoubleEndedList makeIntDoubleEndedList() {
+      return new IntArrayDoubleEndedList();
+   }
+
+   /**
+    * Return a RandomizedList of long values that stores them unboxed.
+    */
+   public static LongRandomizedList makeLongRandomizedList() {
+      return new LongRandomArrays();
+   }
+
+   /**
+    * Return a DoubleEndedList of long values that stores them unboxed.
+    */
+   public static LongDoubleEndedList makeLongDoubleEndedList() {
+      return new LongArrayDoubleEndedList();
+   }
+
+   /**
+    * Return a WeightedRandomizedList for weights that change often, with
+    * O(log n) add, remove, sample and updateWeight.
+    */
+   public static <T> WeightedRandomizedList<T> makeWeightedRandomizedList() {
+      return new FenwickWeightedList<T>();
+   }
+
+   /**
+    * Return a WeightedRandomizedList for weights that rarely change, with
+    * O(1) sample once its alias table is built.
+    */
+   public static <T> WeightedRandomizedList<T>
+         makeStaticWeightedRandomizedList() {
+      return new AliasWeightedList<T>();
+   }
+
+   /**
+    * Return a DoubleEndedList made of linked 64-element chunks, which
+    * iterates like an array and grows without copying.
+    */
+   public static <T> DoubleEndedList<T> makeChunkedDoubleEndedList() {
+      return new ChunkedDoubleEndedList<T>();
+   }
+
+   /**
+    * Return a DoubleEndedList that holds at most capacity elements and whose
+    * put and take methods wait for space or for an element.
+    */
+   public static <T> BlockingDoubleEndedList<T> makeBlockingDoubleEndedList(
+         int capacity) {
+      return new BoundedBlockingDoubleEndedList<T>(capacity);
+   }
+
+   /**
+    * Return a RandomizedList that keeps a uniform sample of k of the elements
+    * added to it, in fixed memory.
+    */
+   public static <T> RandomizedList<T> makeReservoirRandomizedList(int k) {
+      return new ReservoirRandomizedList<T>(k);
+   }
+
+   /**
+    * Return a DoubleEndedList that can append another list in constant time
+    * and split off its tail.
+    */
+   public static <T> SplittableDoubleEndedList<T>
+         makeSplittableDoubleEndedList() {
       return new NodeDoubleEndedList<T>();
    }
 
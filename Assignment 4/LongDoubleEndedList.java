@@ -0,0 +1,43 @@
+import java.util.PrimitiveIterator;
+
+/**
+ * LongDoubleEndedList.java. Describes a double-ended list of long values. It
+ * behaves like a DoubleEndedList<Long> but stores the values unboxed.
+ * Because a long cannot be null, removeFirst and removeLast throw a
+ * NoSuchElementException on an empty list instead of returning null.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface LongDoubleEndedList extends List<Long> {
+
+   /**
+    * Adds element to the front of the list.
+    */
+   void addFirst(long element);
+
+   /**
+    * Adds element to the end of the list.
+    */
+   void addLast(long element);
+
+   /**
+    * Delete and return the value at the front of the list.
+    * If the list is empty, this method throws a NoSuchElementException.
+    */
+   long removeFirst();
+
+   /**
+    * Delete and return the value at the end of the list.
+    * If the list is empty, this method throws a NoSuchElementException.
+    */
+   long removeLast();
+
+   /**
+    * Creates and returns an iterator over the values of this list from front
+    * to rear, without boxing them.
+    */
+   @Override
+   PrimitiveIterator.OfLong iterator();
+
+}
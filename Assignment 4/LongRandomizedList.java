@@ -0,0 +1,41 @@
+import java.util.PrimitiveIterator;
+
+/**
+ * LongRandomizedList.java. Describes a randomized list of long values. It
+ * behaves like a RandomizedList<Long> but stores the values unboxed, so
+ * an element costs the size of a long rather than a reference and an object.
+ * Because a long cannot be null, remove and sample throw a
+ * NoSuchElementException on an empty list instead of returning null.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface LongRandomizedList extends List<Long> {
+
+   /**
+    * Adds the specified value to this list.
+    */
+   void add(long element);
+
+   /**
+    * Selects and removes a value selected uniformly at random from the values
+    * currently in the list. If the list is empty this method throws a
+    * NoSuchElementException.
+    */
+   long remove();
+
+   /**
+    * Selects but does not remove a value selected uniformly at random from
+    * the values currently in the list. If the list is empty this method
+    * throws a NoSuchElementException.
+    */
+   long sample();
+
+   /**
+    * Creates and returns an iterator over the values of this list in
+    * uniformly random order, without boxing them.
+    */
+   @Override
+   PrimitiveIterator.OfLong iterator();
+
+}
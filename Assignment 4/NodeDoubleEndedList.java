@@ -1,13 +1,19 @@
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Creates an instance of the DoubleEndedList.java interface.
  *
+ * The list also implements SplittableDoubleEndedList. Appending another
+ * NodeDoubleEndedList relinks its nodes onto the rear in constant time, and
+ * splitAt detaches the tail of the list after walking to the split point.
+ *
  * @author Daniel Thomason
  * @version 2019-10-17
  */
-public class NodeDoubleEndedList<T> implements DoubleEndedList<T> {
+public class NodeDoubleEndedList<T> implements SplittableDoubleEndedList<T> {
 
     private Node front;
     private Node rear;
@@ -55,6 +61,21 @@ public class NodeDoubleEndedList<T> implements DoubleEndedList<T> {
         return new DoubleEndedIterator();
     }
 
+    /**
+     * Creates a spliterator over the list from front to rear. A linked list
+     * cannot be split in the middle without walking to it, so the
+     * spliterator hands out batches of elements copied into arrays, each
+     * batch larger than the last, which parallel streams can then split
+     * evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
     /**
      * Adds an element to the front of the list.
      *
@@ -115,6 +136,9 @@ public class NodeDoubleEndedList<T> implements DoubleEndedList<T> {
         T removed = front.element;
         front = front.next;
         size--;
+        if (front == null) {
+            rear = null;
+        }
         return removed;
     }
 
@@ -142,12 +166,90 @@ public class NodeDoubleEndedList<T> implements DoubleEndedList<T> {
                 }
             T removed = n.next.element;
             n.next = null;
-            rear = null;
+            rear = n;
             size--;
             return removed;
         }
     }
 
+    /**
+     * Moves every element of other to the end of this list and leaves other
+     * empty. If other is also a NodeDoubleEndedList its nodes are relinked in
+     * constant time; otherwise its elements are moved one at a time.
+     *
+     * @throws IllegalArgumentException if other is this list
+     * @param other - the list whose elements are appended
+     */
+    @Override
+    public void append(DoubleEndedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other instanceof NodeDoubleEndedList) {
+            NodeDoubleEndedList<T> o = (NodeDoubleEndedList<T>) other;
+            if (o.isEmpty()) {
+                return;
+            }
+            if (this.isEmpty()) {
+                front = o.front;
+            }
+            else {
+                rear.next = o.front;
+            }
+            rear = o.rear;
+            size += o.size;
+            o.front = null;
+            o.rear = null;
+            o.size = 0;
+        }
+        else {
+            T element = other.removeFirst();
+            while (element != null) {
+                addLast(element);
+                element = other.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Removes the elements from position index to the end of the list and
+     * returns them as a new list. The nodes are detached, not copied, so the
+     * cost is the walk to position index.
+     *
+     * @throws IllegalArgumentException if index is negative or greater than
+     * size
+     * @param index - the position of the first element to detach
+     * @return a list of the detached elements
+     */
+    @Override
+    public NodeDoubleEndedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException();
+        }
+        NodeDoubleEndedList<T> tail = new NodeDoubleEndedList<T>();
+        if (index == size) {
+            return tail;
+        }
+        tail.rear = rear;
+        tail.size = size - index;
+        if (index == 0) {
+            tail.front = front;
+            front = null;
+            rear = null;
+        }
+        else {
+            Node n = front;
+            for (int i = 1; i < index; i++) {
+                n = n.next;
+            }
+            tail.front = n.next;
+            n.next = null;
+            rear = n;
+        }
+        size = index;
+        return tail;
+    }
+
     /**
      * Creates a linked structure to represent elements in the list.
      *
@@ -200,8 +302,9 @@ public class NodeDoubleEndedList<T> implements DoubleEndedList<T> {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            T element = current.element;
             current = current.next;
-            return current.element;
+            return element;
         }
     }
 }
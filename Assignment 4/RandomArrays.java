@@ -1,11 +1,20 @@
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.Random;
-import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 
 /**
  * Creates an instance of the RandomizedList.java interface.
  *
+ * Random choices come from a RandomGenerator kept by the list, so remove,
+ * sample and iteration allocate nothing. By default each list gets its own
+ * SplittableRandom; passing a generator built from a fixed seed makes every
+ * choice the list makes reproducible.
+ *
  * @author Daniel Thomason
  * @version 2019-10-17
  */
@@ -13,6 +22,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
 
     private T[] elements;
     private int size;
+    private final RandomGenerator random;
     private static final int DEFAULT_CAPACITY = 5;
 
     /** Constructs a RandomArrays object with a capacity of 5. */
@@ -25,10 +35,38 @@ public class RandomArrays <T> implements RandomizedList<T> {
      *
      * @param cap - capacity of the RandomArrays object.
      */
-    @SuppressWarnings("unchecked")
     public RandomArrays(int cap) {
+        this(cap, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a RandomArrays object with a capacity of 5 that makes its
+     * random choices with the given generator.
+     *
+     * @param random - the source of randomness, for example
+     * new SplittableRandom(seed) for a reproducible sequence
+     */
+    public RandomArrays(RandomGenerator random) {
+        this(DEFAULT_CAPACITY, random);
+    }
+
+    /**
+     * Constructs a RandomArrays object with the capacity and the source of
+     * randomness specified by the parameters. The list is used by one thread
+     * at a time, so the generator need not be thread-safe.
+     *
+     * @throws IllegalArgumentException if random is null
+     * @param cap - capacity of the RandomArrays object.
+     * @param random - the source of randomness
+     */
+    @SuppressWarnings("unchecked")
+    public RandomArrays(int cap, RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException();
+        }
         elements = (T[]) new Object[cap];
         size = 0;
+        this.random = random;
     }
 
     /**
@@ -65,6 +103,20 @@ public class RandomArrays <T> implements RandomizedList<T> {
         return new ArrayIterator<T>(elements, size);
     }
 
+    /**
+     * Creates a spliterator over the elements in the order they are stored.
+     * That order is arbitrary but not random, which is all a stream needs,
+     * and it lets the spliterator report SIZED and SUBSIZED and split the
+     * array exactly in half, so parallel streams divide the work evenly.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, 0, size,
+            Spliterator.NONNULL);
+    }
+
     /**
      * Adds the speciified element to the list. If the element
      * is null, this method throws an IllegalArgumentException. If the
@@ -79,7 +131,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
             throw new IllegalArgumentException();
         }
         if (isFull()) {
-            resize(elements.length * 2);
+            resize(Math.max(1, elements.length * 2));
         }
         elements[size] = element;
         size++;
@@ -96,8 +148,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
         if (this.isEmpty()) {
             return null;
         }
-        Random r = new Random();
-        int index = r.nextInt(size);
+        int index = random.nextInt(size);
         T removed = elements[index];
         elements[index] = elements[size() - 1];
         elements[size() - 1] = null;
@@ -115,23 +166,121 @@ public class RandomArrays <T> implements RandomizedList<T> {
         if (this.isEmpty()) {
             return null;
         }
-        Random r = new Random();
-        int index = r.nextInt(size);
+        int index = random.nextInt(size);
         return elements[index];
     }
 
+    /**
+     * Adds every element of the array to the list, resizing at most once.
+     * If any element is null, this method throws an IllegalArgumentException
+     * and the list is unchanged.
+     *
+     * @throws IllegalArgumentException if any element is null
+     * @param items - the elements to be added
+     */
+    @Override
+    public void addAll(T[] items) {
+        for (T element : items) {
+            if (element == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+        ensureCapacity(size + items.length);
+        System.arraycopy(items, 0, elements, size, items.length);
+        size += items.length;
+    }
+
+    /**
+     * Adds every element of the collection to the list, resizing at most
+     * once. If any element is null, this method throws an
+     * IllegalArgumentException and the list is unchanged.
+     *
+     * @throws IllegalArgumentException if any element is null
+     * @param items - the elements to be added
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> items) {
+        addAll((T[]) items.toArray());
+    }
+
+    /**
+     * Removes k elements chosen uniformly at random without replacement, or
+     * every element if the list has fewer than k.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @param k - the number of elements to remove
+     * @return the elements that were removed
+     */
+    @Override
+    public Collection<T> removeMany(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(k, size);
+        chooseIntoTail(count);
+        Collection<T> removed = Arrays.asList(
+            Arrays.copyOfRange(elements, size - count, size));
+        Arrays.fill(elements, size - count, size, null);
+        size -= count;
+        return removed;
+    }
+
+    /**
+     * Selects k elements uniformly at random without replacement, or every
+     * element if the list has fewer than k, without removing them.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @param k - the number of elements to select
+     * @return the selected elements
+     */
+    @Override
+    public Collection<T> sample(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(k, size);
+        chooseIntoTail(count);
+        return Arrays.asList(Arrays.copyOfRange(elements, size - count, size));
+    }
+
     /**
      * Resizes the array to the size indicated by the parameter.
      *
      * @param cap - the new capacity of the array
      */
-    @SuppressWarnings("unchecked")
     private void resize(int cap) {
-        T[] a = (T[]) new Object[cap];
-        for (int i = 0; i < size(); i++) {
-            a[i] = elements[i];
+        elements = Arrays.copyOf(elements, cap);
+    }
+
+    /**
+     * Resizes the array once, if needed, so that it can hold the number of
+     * elements indicated by the parameter.
+     *
+     * @param needed - the number of elements the array must hold
+     */
+    private void ensureCapacity(int needed) {
+        if (needed > elements.length) {
+            resize(Math.max(needed, elements.length * 2));
+        }
+    }
+
+    /**
+     * Moves k elements, chosen uniformly at random without replacement, to
+     * the last k positions in use by running k steps of a Fisher-Yates
+     * shuffle from the end of the array. The list has no order, so moving
+     * its elements around changes nothing that callers can see.
+     *
+     * @param k - the number of elements to choose, at most size
+     */
+    private void chooseIntoTail(int k) {
+        for (int i = 0; i < k; i++) {
+            int last = size - 1 - i;
+            int index = random.nextInt(last + 1);
+            T chosen = elements[index];
+            elements[index] = elements[last];
+            elements[last] = chosen;
         }
-        elements = a;
     }
 
     /**
@@ -144,15 +293,16 @@ public class RandomArrays <T> implements RandomizedList<T> {
     }
 
     /**
-     * Creates an iterator that can iterate over a RandomizedList.
+     * Creates an iterator that can iterate over a RandomizedList. The order
+     * comes from a LazyShuffle of the positions in use, so each next is O(1)
+     * and reading only the first few elements never touches the rest.
      *
      * @author Daniel Thomason
      * @version 2019-10-17
      */
     public class ArrayIterator<T> implements Iterator<T> {
         private T[] items;
-        private int count;
-        private int current;
+        private LazyShuffle order;
 
         /**
          * Constructs an ArrayIterator object.
@@ -162,8 +312,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
          */
         public ArrayIterator(T[] elements, int size) {
             items = elements;
-            count = size;
-            current = 0;
+            order = new LazyShuffle(size, random);
         }
 
         /**
@@ -173,7 +322,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
          */
         @Override
         public boolean hasNext() {
-            return (current < count);
+            return order.hasNext();
         }
 
         /**
@@ -194,13 +343,7 @@ public class RandomArrays <T> implements RandomizedList<T> {
          */
         @Override
         public T next() {
-            if (!hasNext()) {
-                throw new NoSuchElementException();
-            }
-            Random r = new Random();
-            current = r.nextInt(count);
-            count--;
-            return items[current];
+            return items[order.nextPosition()];
         }
     }
 }
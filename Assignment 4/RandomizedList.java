@@ -1,3 +1,6 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 
 /**
  * RandomizedList.java. Describes the abstract behavior of a
@@ -35,4 +38,61 @@ public interface RandomizedList<T> extends List<T> {
     */
    T sample();
 
+   /**
+    * Adds every element of the array to this list. If any element is null,
+    * this method throws an IllegalArgumentException.
+    */
+   default void addAll(T[] elements) {
+      for (T element : elements) {
+         add(element);
+      }
+   }
+
+   /**
+    * Adds every element of the collection to this list. If any element is
+    * null, this method throws an IllegalArgumentException.
+    */
+   default void addAll(Collection<? extends T> elements) {
+      for (T element : elements) {
+         add(element);
+      }
+   }
+
+   /**
+    * Selects and removes k elements selected uniformly at random, without
+    * replacement, from the elements currently in the list. If the list has
+    * fewer than k elements, all of them are removed. If k is negative, this
+    * method throws an IllegalArgumentException.
+    */
+   default Collection<T> removeMany(int k) {
+      if (k < 0) {
+         throw new IllegalArgumentException();
+      }
+      int count = Math.min(k, size());
+      Collection<T> removed = new ArrayList<T>(count);
+      for (int i = 0; i < count; i++) {
+         removed.add(remove());
+      }
+      return removed;
+   }
+
+   /**
+    * Selects but does not remove k elements selected uniformly at random,
+    * without replacement, from the elements currently in the list. If the
+    * list has fewer than k elements, all of them are returned. If k is
+    * negative, this method throws an IllegalArgumentException.
+    */
+   default Collection<T> sample(int k) {
+      if (k < 0) {
+         throw new IllegalArgumentException();
+      }
+      int count = Math.min(k, size());
+      Collection<T> selected = new ArrayList<T>(count);
+      Iterator<T> itr = iterator();
+      for (int i = 0; i < count; i++) {
+         selected.add(itr.next());
+      }
+      return selected;
+   }
+
 }
@@ -0,0 +1,130 @@
+import java.util.SplittableRandom;
+
+/**
+ * RandomizedListCheck.java. Checks that the randomized lists of this
+ * assignment select their elements with the promised probabilities, and
+ * exits with a nonzero status if any check fails.
+ *
+ * Usage: java RandomizedListCheck
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public final class RandomizedListCheck {
+
+    /** Number of samples drawn by each distribution check. */
+    private static final int SAMPLES = 1_000_000;
+
+    /** Largest allowed relative error of a selection count. */
+    private static final double TOLERANCE = 0.05;
+
+    /**
+     * Can't instantiate this class.
+     */
+    private RandomizedListCheck() { }
+
+    /**
+     * Runs every check and reports how many failed.
+     *
+     * @param args - not used
+     * @throws InterruptedException if interrupted while adding elements
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int failures = checkStripedUniform() + checkFenwickDrift();
+        System.out.println(failures == 0 ? "all checks passed"
+            : failures + " checks failed");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Fills a StripedRandomizedList of four stripes from two threads, so at
+     * least two stripes stay empty, and checks that sample selects every
+     * element equally often.
+     *
+     * @return the number of elements selected too often or too rarely
+     * @throws InterruptedException if interrupted while adding elements
+     */
+    private static int checkStripedUniform() throws InterruptedException {
+        StripedRandomizedList<Integer> list = new StripedRandomizedList<>(4);
+        Thread[] threads = new Thread[2];
+        for (int t = 0; t < threads.length; t++) {
+            int base = 50 * t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    list.add(base + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        int[] counts = new int[100];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[list.sample()]++;
+        }
+        return countOutliers("striped", counts, SAMPLES / 100.0);
+    }
+
+    /**
+     * Raises a few weights of a FenwickWeightedList of 100 elements to 1e15
+     * and sets them back to 1, many times over, so the tree takes changes
+     * far larger than its final total. Checks that the total weight is then
+     * exactly 100 and that sample selects every element equally often.
+     *
+     * @return the number of failed comparisons
+     */
+    private static int checkFenwickDrift() {
+        FenwickWeightedList<Integer> list = new FenwickWeightedList<>(
+            new SplittableRandom(1));
+        for (int i = 0; i < 100; i++) {
+            list.add(i, 1.0);
+        }
+        SplittableRandom random = new SplittableRandom(2);
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 100; i++) {
+                if (random.nextInt(10) == 0) {
+                    list.updateWeight(i, 1e15);
+                }
+            }
+            for (int i = 0; i < 100; i++) {
+                list.updateWeight(i, 1.0);
+            }
+        }
+        int failures = 0;
+        if (list.totalWeight() != 100.0) {
+            System.out.println("fenwick: total weight "
+                + list.totalWeight() + ", expected 100.0");
+            failures++;
+        }
+        int[] counts = new int[100];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[list.sample()]++;
+        }
+        return failures + countOutliers("fenwick", counts, SAMPLES / 100.0);
+    }
+
+    /**
+     * Returns how many counts differ from expected by more than the
+     * tolerance, reporting each of them.
+     *
+     * @param name - the name of the check
+     * @param counts - how often each element was selected
+     * @param expected - how often each element should be selected
+     * @return the number of outlying counts
+     */
+    private static int countOutliers(String name, int[] counts,
+            double expected) {
+        int outliers = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (Math.abs(counts[i] - expected) > TOLERANCE * expected) {
+                System.out.println(name + ": element " + i + " selected "
+                    + counts[i] + " times, expected " + expected);
+                outliers++;
+            }
+        }
+        return outliers;
+    }
+}
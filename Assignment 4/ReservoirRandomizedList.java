@@ -0,0 +1,210 @@
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates an instance of the RandomizedList.java interface that keeps a
+ * uniform random sample of fixed size from an unbounded stream of adds. The
+ * first k elements fill the reservoir; after that, every element added so
+ * far is in the reservoir with the same probability k / added(), and memory
+ * never grows past the k slots.
+ *
+ * Elements are admitted with Algorithm L (Li, 1994). Instead of drawing a
+ * random number for every add, it draws the number of elements to skip
+ * before the next one that replaces a reservoir slot, so almost every add
+ * is a counter increment and a comparison. The number of random draws grows
+ * only as O(k log(added() / k)).
+ *
+ * sample, remove and the iterator work on the reservoir. Removing an element
+ * frees its slot, and the next add fills it directly; once the reservoir is
+ * full again skipping resumes, but the sample is then uniform only over the
+ * elements added since the reservoir last filled.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class ReservoirRandomizedList<T> implements RandomizedList<T> {
+
+    private final T[] reservoir;
+    private int size;
+    private long added;
+    private long nextAdmitted;
+    private double w;
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a ReservoirRandomizedList object that keeps a sample of the
+     * size specified by the parameter.
+     *
+     * @param k - the size of the reservoir
+     */
+    public ReservoirRandomizedList(int k) {
+        this(k, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a ReservoirRandomizedList object with the reservoir size and
+     * the source of randomness specified by the parameters.
+     *
+     * @throws IllegalArgumentException if k is less than 1 or random is null
+     * @param k - the size of the reservoir
+     * @param random - the source of randomness
+     */
+    @SuppressWarnings("unchecked")
+    public ReservoirRandomizedList(int k, RandomGenerator random) {
+        if (k < 1 || random == null) {
+            throw new IllegalArgumentException();
+        }
+        reservoir = (T[]) new Object[k];
+        size = 0;
+        added = 0;
+        this.random = random;
+    }
+
+    /**
+     * Returns the number of elements in the reservoir, at most k.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the reservoir contains any elements.
+     *
+     * @return true if size() is equal to 0, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements added to the list so far, whether or
+     * not they were kept.
+     *
+     * @return the number of adds
+     */
+    public long added() {
+        return added;
+    }
+
+    /**
+     * Returns an iterator over the reservoir in uniformly random order.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ShuffleIterator();
+    }
+
+    /**
+     * Offers the specified element to the reservoir. While the reservoir is
+     * not full the element is always kept; after that it replaces a random
+     * slot only if it is the next element Algorithm L admits.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     */
+    @Override
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        added++;
+        if (size < reservoir.length) {
+            reservoir[size] = element;
+            size++;
+            if (size == reservoir.length) {
+                w = Math.exp(Math.log(uniform()) / reservoir.length);
+                skip();
+            }
+        } else if (added == nextAdmitted) {
+            reservoir[random.nextInt(reservoir.length)] = element;
+            w *= Math.exp(Math.log(uniform()) / reservoir.length);
+            skip();
+        }
+    }
+
+    /**
+     * Removes a random element from the reservoir. Returns null if the
+     * reservoir is empty.
+     *
+     * @return the element that was removed
+     */
+    @Override
+    public T remove() {
+        if (isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(size);
+        T removed = reservoir[index];
+        reservoir[index] = reservoir[size - 1];
+        reservoir[size - 1] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Selects an element from the reservoir at random. Returns null if the
+     * reservoir is empty.
+     *
+     * @return the selected element
+     */
+    @Override
+    public T sample() {
+        if (isEmpty()) {
+            return null;
+        }
+        return reservoir[random.nextInt(size)];
+    }
+
+    /**
+     * Sets nextAdmitted to the count of the next element to keep, skipping a
+     * geometrically distributed number of elements with parameter w.
+     */
+    private void skip() {
+        double gap = Math.floor(Math.log(uniform()) / Math.log1p(-w));
+        // A huge gap saturates, which only means no more admissions.
+        nextAdmitted = added + 1 + (long) gap;
+        if (nextAdmitted <= added) {
+            nextAdmitted = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns a uniform random number in (0, 1], never zero so that its
+     * logarithm is finite.
+     *
+     * @return the random number
+     */
+    private double uniform() {
+        return 1.0 - random.nextDouble();
+    }
+
+    /**
+     * Iterates over the reservoir in the order of a LazyShuffle of its slots.
+     */
+    private class ShuffleIterator implements Iterator<T> {
+        private final T[] items = reservoir;
+        private final LazyShuffle order = new LazyShuffle(size, random);
+
+        @Override
+        public boolean hasNext() {
+            return order.hasNext();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T next() {
+            return items[order.nextPosition()];
+        }
+    }
+}
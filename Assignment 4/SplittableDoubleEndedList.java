@@ -0,0 +1,26 @@
+/**
+ * SplittableDoubleEndedList.java. Describes a double-ended list that can be
+ * joined to another list or cut in two as a whole, so that work queues can be
+ * merged and rebalanced without moving their elements one at a time.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface SplittableDoubleEndedList<T> extends DoubleEndedList<T> {
+
+   /**
+    * Moves every element of other to the end of this list, in order, and
+    * leaves other empty. If other is this list, this method throws an
+    * IllegalArgumentException.
+    */
+   void append(DoubleEndedList<T> other);
+
+   /**
+    * Removes the elements from position index to the end of this list and
+    * returns them, in order, as a new list. Position 0 is the front. If index
+    * is negative or greater than size(), this method throws an
+    * IllegalArgumentException.
+    */
+   SplittableDoubleEndedList<T> splitAt(int index);
+
+}
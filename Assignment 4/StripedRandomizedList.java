@@ -0,0 +1,282 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates an instance of the RandomizedList.java interface that many
+ * threads can share. Because a randomized list promises no order, the
+ * elements can be spread over several independent stripes, each a small
+ * RandomArrays-style array with its own lock. A thread adds to the stripe
+ * picked by its own id, so threads that add at the same time rarely touch
+ * the same lock. Remove and sample pick a stripe at random, weighted by
+ * the number of elements it holds.
+ *
+ * Uniformity: remove and sample read the sizes of all stripes without
+ * locking, choose a stripe with probability proportional to its size, and
+ * then an element uniformly within that stripe, so every element is
+ * selected with probability exactly 1/size() however unevenly the stripes
+ * are filled. Only the chosen stripe is locked. If other threads change
+ * the list at the same time, the sizes read may be stale; a stripe that
+ * turns out to be empty is never used, and the choice is made again. The
+ * iterator walks a uniformly shuffled snapshot of the list.
+ *
+ * @author Daniel Thomason
+ * @version 2026-10-19
+ */
+public class StripedRandomizedList<T> implements RandomizedList<T> {
+
+    private final Stripe[] stripes;
+
+    /**
+     * Constructs a StripedRandomizedList object with two stripes per
+     * available processor.
+     */
+    public StripedRandomizedList() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a StripedRandomizedList object with the number of stripes
+     * specified by the parameter.
+     *
+     * @param count - the number of stripes, at least 1
+     */
+    public StripedRandomizedList(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException();
+        }
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Returns the size of the list. If other threads are changing the list,
+     * the result may lag behind their most recent operations.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        int total = 0;
+        for (Stripe s : stripes) {
+            total += s.size;
+        }
+        return total;
+    }
+
+    /**
+     * Determines if the list contains any elements.
+     *
+     * @return true if size() is equal to 0, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Stripe s : stripes) {
+            if (s.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the list in uniformly random
+     * order. Changes made after the iterator is created are not seen.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] copy = new Object[Math.max(size(), 1)];
+        int count = 0;
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                if (count + s.size > copy.length) {
+                    copy = Arrays.copyOf(copy,
+                        Math.max(2 * copy.length, count + s.size));
+                }
+                System.arraycopy(s.items, 0, copy, count, s.size);
+                count += s.size;
+            }
+        }
+        return new SnapshotIterator(copy, count);
+    }
+
+    /**
+     * Adds the specified element to the stripe of the calling thread.
+     *
+     * @throws IllegalArgumentException if element is null
+     * @param element - the element to be added
+     */
+    @Override
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException();
+        }
+        int i = (int) (Thread.currentThread().getId() % stripes.length);
+        stripes[i].add(element);
+    }
+
+    /**
+     * Removes a random element from the list. Returns null if the list is
+     * empty.
+     *
+     * @return the element that was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove() {
+        return (T) select(true);
+    }
+
+    /**
+     * Selects an element from the list at random. Returns null if the list
+     * is empty.
+     *
+     * @return the selected element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T sample() {
+        return (T) select(false);
+    }
+
+    /**
+     * Picks a stripe with probability proportional to its size, then an
+     * element uniformly within it. If the sizes change while the stripe is
+     * being picked, or the chosen stripe is empty by the time it is locked,
+     * the pick is made again from fresh sizes.
+     *
+     * @param remove - whether the selected element is removed
+     * @return the selected element, or null if every stripe is empty
+     */
+    private Object select(boolean remove) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int total = size();
+            if (total == 0) {
+                return null;
+            }
+            int target = random.nextInt(total);
+            for (Stripe s : stripes) {
+                target -= s.size;
+                if (target < 0) {
+                    Object selected = s.select(remove, random);
+                    if (selected != null) {
+                        return selected;
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Padding laid out before the fields of a Stripe. HotSpot places the
+     * fields of a superclass before those of its subclasses, so this class
+     * and the padding in Stripe keep the fields of two stripes off a shared
+     * cache line.
+     */
+    private static class StripePadding {
+        long p0, p1, p2, p3, p4, p5, p6;
+    }
+
+    /**
+     * The fields of a stripe, between its two runs of padding.
+     */
+    private static class StripeFields extends StripePadding {
+        Object[] items = new Object[8];
+        volatile int size;
+    }
+
+    /**
+     * Holds one stripe of the list: an unordered array guarded by the
+     * stripe's own lock. The size is volatile so size() and isEmpty() can
+     * read it without locking.
+     */
+    private static final class Stripe extends StripeFields {
+        long q0, q1, q2, q3, q4, q5, q6;
+
+        /**
+         * Adds an element, doubling the array if it is full.
+         *
+         * @param element - the element to be added
+         */
+        synchronized void add(Object element) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, 2 * items.length);
+            }
+            items[size] = element;
+            size++;
+        }
+
+        /**
+         * Selects an element uniformly at random and optionally removes it
+         * by moving the last element into its place.
+         *
+         * @param remove - whether the selected element is removed
+         * @param random - the source of randomness
+         * @return the selected element, or null if this stripe is empty
+         */
+        synchronized Object select(boolean remove, ThreadLocalRandom random) {
+            if (size == 0) {
+                return null;
+            }
+            int index = random.nextInt(size);
+            Object selected = items[index];
+            if (remove) {
+                items[index] = items[size - 1];
+                items[size - 1] = null;
+                size--;
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Iterates over a private copy of the list in uniformly random order by
+     * swapping each returned element out of the unvisited part of the copy.
+     */
+    private class SnapshotIterator implements Iterator<T> {
+        private final Object[] items;
+        private int remaining;
+
+        /**
+         * Constructs a SnapshotIterator object over the first count
+         * elements of items.
+         *
+         * @param items - the copied elements
+         * @param count - how many of them are in use
+         */
+        SnapshotIterator(Object[] items, int count) {
+            this.items = items;
+            remaining = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = ThreadLocalRandom.current().nextInt(remaining);
+            Object selected = items[index];
+            items[index] = items[remaining - 1];
+            remaining--;
+            return (T) selected;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+import java.util.Collection;
+
+/**
+ * WeightedRandomizedList.java. Describes the abstract behavior of a
+ * randomized list in which every element carries a positive weight. The
+ * element accessed by either the sample or remove method is selected at
+ * random with probability proportional to its weight, so a list in which all
+ * weights are equal behaves exactly like a RandomizedList. An iterator still
+ * accesses each element once in some uniformly random sequence; weights only
+ * affect sample and remove.
+ *
+ * @author   Daniel Thomason
+ * @version  2026-10-19
+ */
+public interface WeightedRandomizedList<T> extends RandomizedList<T> {
+
+   /**
+    * Adds the specified element to this list with a weight of 1.0. If the
+    * element is null, this method throws an IllegalArgumentException.
+    */
+   @Override
+   default void add(T element) {
+      add(element, 1.0);
+   }
+
+   /**
+    * Adds the specified element to this list with the given weight. If the
+    * element is null, or the weight is not a positive finite number, this
+    * method throws an IllegalArgumentException.
+    */
+   void add(T element, double weight);
+
+   /**
+    * Changes the weight of one occurrence of the specified element. Returns
+    * true if the element was found, false otherwise. If the weight is not a
+    * positive finite number, this method throws an IllegalArgumentException.
+    */
+   boolean updateWeight(T element, double weight);
+
+   /**
+    * Returns the sum of the weights of the elements currently in the list.
+    */
+   double totalWeight();
+
+   /**
+    * Selects and removes an element selected at random with probability
+    * proportional to its weight. If the list is empty this method returns
+    * null.
+    */
+   @Override
+   T remove();
+
+   /**
+    * Selects but does not remove an element selected at random with
+    * probability proportional to its weight. If the list is empty this method
+    * returns null.
+    */
+   @Override
+   T sample();
+
+   /**
+    * Selects but does not remove k elements, one after another, each selected
+    * with probability proportional to its weight among the elements not yet
+    * selected. This is the same distribution as k calls to remove. If the
+    * list has fewer than k elements, all of them are returned. If k is
+    * negative, this method throws an IllegalArgumentException.
+    */
+   @Override
+   Collection<T> sample(int k);
+
+}
@@ -0,0 +1,144 @@
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Solves many boards against one shared lexicon. Unlike a WordSearchGame,
+ * which loads its own lexicon and holds one board at a time, a
+ * BoardBatchSolver is immutable: the lexicon is loaded once, and every call
+ * builds the board state it needs, so any number of threads may use the same
+ * instance. The batch methods solve the boards on the common fork/join pool.
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class BoardBatchSolver {
+
+    private final Lexicon lexicon;
+
+    /**
+     * Creates a solver that looks words up in the given lexicon.
+     *
+     * @param lexicon the lexicon shared by every solve
+     * @throws IllegalArgumentException if lexicon is null
+     */
+    public BoardBatchSolver(Lexicon lexicon) {
+        if (lexicon == null) {
+            throw new IllegalArgumentException();
+        }
+        this.lexicon = lexicon;
+    }
+
+    /**
+     * Creates a solver for the lexicon stored in the named file, which may be
+     * a word list or a lexicon compiled by LexiconCompiler.
+     *
+     * @param fileName the name of the lexicon file
+     * @throws IllegalArgumentException if fileName is null or cannot be read
+     */
+    public BoardBatchSolver(String fileName) {
+        if (fileName == null) {
+            throw new IllegalArgumentException();
+        }
+        lexicon = Lexicon.load(fileName);
+    }
+
+    /**
+     * Finds all the valid words on one board and their score.
+     *
+     * @param letterArray the board in row-major order, as for
+     *     WordSearchGame.setBoard
+     * @param minimumWordLength the minimum number of characters in a word
+     * @return the words and score of the board
+     * @throws IllegalArgumentException if letterArray is null or not square,
+     *     or if minimumWordLength < 1
+     */
+    public Result solve(String[] letterArray, int minimumWordLength) {
+        if (minimumWordLength < 1) {
+            throw new IllegalArgumentException();
+        }
+        SortedSet<String> words = new TreeSet<String>();
+        new BoardSolver(letterArray).findWords(lexicon, minimumWordLength,
+            words);
+        return new Result(words, minimumWordLength);
+    }
+
+    /**
+     * Solves a stream of boards in parallel. The results are in the order of
+     * the boards; the returned stream is lazy, so nothing is solved until it
+     * is consumed.
+     *
+     * @param boards the boards, each in row-major order
+     * @param minimumWordLength the minimum number of characters in a word
+     * @return the result for each board
+     * @throws IllegalArgumentException if minimumWordLength < 1, or, as the
+     *     stream is consumed, if a board is null or not square
+     */
+    public Stream<Result> solveAll(Stream<String[]> boards,
+            int minimumWordLength) {
+        if (minimumWordLength < 1) {
+            throw new IllegalArgumentException();
+        }
+        return boards.parallel().map(b -> solve(b, minimumWordLength));
+    }
+
+    /**
+     * Solves a list of boards in parallel.
+     *
+     * @param boards the boards, each in row-major order
+     * @param minimumWordLength the minimum number of characters in a word
+     * @return the result for each board, in the order of the boards
+     * @throws IllegalArgumentException if boards is null, if a board is null
+     *     or not square, or if minimumWordLength < 1
+     */
+    public List<Result> solveAll(List<String[]> boards,
+            int minimumWordLength) {
+        if (boards == null) {
+            throw new IllegalArgumentException();
+        }
+        return solveAll(boards.stream(), minimumWordLength)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The words found on one board and their score.
+     */
+    public static final class Result {
+        private final SortedSet<String> words;
+        private final int score;
+
+        /**
+         * Scores the words of a board. Every word was found on the board and
+         * in the lexicon, so each one is scorable and earns one point plus one
+         * for each character beyond the minimum, as in getScoreForWords.
+         */
+        private Result(SortedSet<String> words, int minimumWordLength) {
+            int total = 0;
+            for (String w : words) {
+                total += w.length() - minimumWordLength + 1;
+            }
+            this.words = Collections.unmodifiableSortedSet(words);
+            this.score = total;
+        }
+
+        /**
+         * Returns the valid words on the board, in sorted order. The set
+         * cannot be modified.
+         */
+        public SortedSet<String> getWords() {
+            return words;
+        }
+
+        /**
+         * Returns the score of the words, the same as getScoreForWords
+         * would compute for them.
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+}
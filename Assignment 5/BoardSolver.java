@@ -0,0 +1,279 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * The search core of WordthFirstSearch. A BoardSolver holds one square board
+ * in the form the search wants: the tiles in row-major order, converted to
+ * upper case, and for every cell the array of its neighbors, computed once.
+ * Both are never changed after construction.
+ *
+ * The depth-first searches run on an explicit stack rather than by
+ * recursion. Which cells are on the current path is a bit mask in a long[],
+ * the letters of the path are kept in one reusable char[], and the lexicon
+ * is walked one step per tile, so a search allocates nothing except the
+ * strings of the words it finds.
+ *
+ * The board arrays are read-only, so findWordsParallel can search from
+ * different starting cells at once; each task gets its own Search and its
+ * own result set, and the sets are merged at the end.
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+final class BoardSolver {
+
+    private final int dimension;
+    private final String[] tiles;
+    private final int[][] neighbors;
+    private final int maxWordLength;
+    private final Search search;
+
+    /**
+     * Builds the solver for a board.
+     *
+     * @param letterArray the tiles in row-major order; the board must be
+     *     square
+     * @throws IllegalArgumentException if letterArray is null, is not square,
+     *     or holds a null tile
+     */
+    BoardSolver(String[] letterArray) {
+        if (letterArray == null) {
+            throw new IllegalArgumentException();
+        }
+        int n = (int) Math.sqrt(letterArray.length);
+        if (n * n != letterArray.length) {
+            throw new IllegalArgumentException();
+        }
+        dimension = n;
+        tiles = new String[letterArray.length];
+        int letters = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            if (letterArray[i] == null) {
+                throw new IllegalArgumentException();
+            }
+            tiles[i] = letterArray[i].toUpperCase();
+            letters += tiles[i].length();
+        }
+        maxWordLength = letters;
+        neighbors = new int[tiles.length][];
+        int[] buffer = new int[8];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                int count = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        int r = row + dr;
+                        int c = col + dc;
+                        if ((dr != 0 || dc != 0) && r >= 0 && r < n
+                                && c >= 0 && c < n) {
+                            buffer[count++] = r * n + c;
+                        }
+                    }
+                }
+                int[] cell = new int[count];
+                System.arraycopy(buffer, 0, cell, 0, count);
+                neighbors[row * n + col] = cell;
+            }
+        }
+        search = new Search();
+    }
+
+    /**
+     * Returns the number of rows (and columns) of the board.
+     */
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the upper-case tile at a cell.
+     *
+     * @param cell the row-major position of the cell
+     */
+    String tile(int cell) {
+        return tiles[cell];
+    }
+
+    /**
+     * Adds to words every word of the lexicon with at least minLength
+     * characters that can be formed on the board.
+     *
+     * @param lexicon the words to look for
+     * @param minLength the minimum number of characters in a word
+     * @param words the set that receives the words
+     */
+    void findWords(Lexicon lexicon, int minLength, SortedSet<String> words) {
+        for (int cell = 0; cell < tiles.length; cell++) {
+            search.findWords(cell, lexicon, minLength, words);
+        }
+    }
+
+    /**
+     * Returns every word of the lexicon with at least minLength characters
+     * that can be formed on the board, searching from the starting cells in
+     * parallel. The lexicon is only read, so it may be shared with other
+     * searches running at the same time.
+     *
+     * @param lexicon the words to look for
+     * @param minLength the minimum number of characters in a word
+     * @return the words found
+     */
+    SortedSet<String> findWordsParallel(Lexicon lexicon, int minLength) {
+        return IntStream.range(0, tiles.length).parallel()
+            .collect(Task::new,
+                (task, cell) -> task.search.findWords(cell, lexicon, minLength,
+                    task.words),
+                (left, right) -> left.words.addAll(right.words))
+            .words;
+    }
+
+    /**
+     * Returns the cells of a path that spells word, or an empty list if there
+     * is none. The word is matched without regard to case.
+     *
+     * @param word the word to look for
+     * @return the row-major positions of the path, first tile first
+     */
+    List<Integer> findPath(String word) {
+        return search.findPath(word.toUpperCase());
+    }
+
+    /**
+     * The state of one task of findWordsParallel: a Search of its own and the
+     * words it has found. A task covers a range of starting cells, so the
+     * stack arrays are allocated once per task rather than once per cell.
+     */
+    private final class Task {
+        private final Search search = new Search();
+        private final SortedSet<String> words = new TreeSet<String>();
+    }
+
+    /**
+     * The mutable state of one search: the visited mask, the word buffer
+     * and the stack. It is allocated once and reset by every search.
+     */
+    private final class Search {
+        private final long[] visited = new long[(tiles.length + 63) >>> 6];
+        private final char[] word = new char[maxWordLength];
+        private final int[] stackCell = new int[tiles.length];
+        private final int[] stackNode = new int[tiles.length];
+        private final int[] stackNext = new int[tiles.length];
+        private final int[] stackLength = new int[tiles.length];
+
+        /**
+         * Finds the words on paths that start at one cell.
+         */
+        void findWords(int start, Lexicon lexicon, int minLength,
+                SortedSet<String> words) {
+            int node = lexicon.step(lexicon.root(), tiles[start]);
+            if (node == Lexicon.NONE) {
+                return;
+            }
+            int length = append(0, tiles[start]);
+            if (lexicon.isWord(node) && length >= minLength) {
+                words.add(new String(word, 0, length));
+            }
+            int top = push(0, start, node, length);
+            while (top > 0) {
+                int f = top - 1;
+                int cell = stackCell[f];
+                int[] around = neighbors[cell];
+                if (stackNext[f] == around.length) {
+                    unmark(cell);
+                    top--;
+                    continue;
+                }
+                int next = around[stackNext[f]++];
+                if (isMarked(next)) {
+                    continue;
+                }
+                int child = lexicon.step(stackNode[f], tiles[next]);
+                if (child == Lexicon.NONE) {
+                    continue;
+                }
+                length = append(stackLength[f], tiles[next]);
+                if (lexicon.isWord(child) && length >= minLength) {
+                    words.add(new String(word, 0, length));
+                }
+                top = push(top, next, child, length);
+            }
+        }
+
+        /**
+         * Finds a path that spells target, which is already in upper case.
+         */
+        List<Integer> findPath(String target) {
+            List<Integer> path = new ArrayList<Integer>();
+            if (target.isEmpty()) {
+                return path;
+            }
+            for (int start = 0; start < tiles.length; start++) {
+                if (!target.startsWith(tiles[start])) {
+                    continue;
+                }
+                int length = tiles[start].length();
+                int top = push(0, start, 0, length);
+                while (top > 0) {
+                    int f = top - 1;
+                    if (stackLength[f] == target.length()) {
+                        for (int i = 0; i < top; i++) {
+                            path.add(stackCell[i]);
+                            unmark(stackCell[i]);
+                        }
+                        return path;
+                    }
+                    int cell = stackCell[f];
+                    int[] around = neighbors[cell];
+                    if (stackNext[f] == around.length) {
+                        unmark(cell);
+                        top--;
+                        continue;
+                    }
+                    int next = around[stackNext[f]++];
+                    if (!isMarked(next)
+                            && target.startsWith(tiles[next], stackLength[f])) {
+                        top = push(top, next, 0,
+                            stackLength[f] + tiles[next].length());
+                    }
+                }
+            }
+            return path;
+        }
+
+        /**
+         * Pushes a frame for cell and marks the cell as on the path.
+         *
+         * @return the new stack size
+         */
+        private int push(int top, int cell, int node, int length) {
+            stackCell[top] = cell;
+            stackNode[top] = node;
+            stackNext[top] = 0;
+            stackLength[top] = length;
+            visited[cell >>> 6] |= 1L << cell;
+            return top + 1;
+        }
+
+        /**
+         * Copies tile into the word buffer at position length.
+         *
+         * @return the length of the word with the tile
+         */
+        private int append(int length, String tile) {
+            tile.getChars(0, tile.length(), word, length);
+            return length + tile.length();
+        }
+
+        private boolean isMarked(int cell) {
+            return (visited[cell >>> 6] & (1L << cell)) != 0;
+        }
+
+        private void unmark(int cell) {
+            visited[cell >>> 6] &= ~(1L << cell);
+        }
+    }
+}
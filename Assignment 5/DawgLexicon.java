@@ -0,0 +1,122 @@
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A Lexicon read from a file written by LexiconCompiler. The file is mapped
+ * into memory with FileChannel.map and read in place: opening it costs a
+ * system call and a header check rather than parsing and sorting the word
+ * list, and the words occupy the operating system's page cache instead of
+ * the Java heap, shared by every process that maps the same file.
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class DawgLexicon implements Lexicon {
+
+    private final ByteBuffer data;
+    private final int words;
+    private final int root;
+    private final int labelBase;
+    private final int targetBase;
+
+    /**
+     * Wraps a mapped file after checking its header.
+     *
+     * @param data the contents of the file
+     * @throws IllegalArgumentException if the data is not a compiled lexicon
+     */
+    private DawgLexicon(ByteBuffer data) {
+        if (data.capacity() < LexiconCompiler.HEADER_BYTES
+                || data.getInt(0) != LexiconCompiler.MAGIC
+                || data.getInt(4) != LexiconCompiler.VERSION) {
+            throw new IllegalArgumentException("not a compiled lexicon");
+        }
+        this.data = data;
+        int nodeCount = data.getInt(8);
+        int edgeCount = data.getInt(12);
+        words = data.getInt(16);
+        root = data.getInt(20);
+        labelBase = LexiconCompiler.HEADER_BYTES + 4 * (nodeCount + 1);
+        targetBase = labelBase + 2 * (edgeCount + edgeCount % 2);
+        if (targetBase + 4L * edgeCount > data.capacity()) {
+            throw new IllegalArgumentException("truncated compiled lexicon");
+        }
+    }
+
+    /**
+     * Maps a compiled lexicon file into memory.
+     *
+     * @param fileName the name of a file written by LexiconCompiler
+     * @return the lexicon
+     * @throws IllegalArgumentException if the file cannot be read or is not
+     *     a compiled lexicon
+     */
+    public static DawgLexicon open(String fileName) {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+                StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new DawgLexicon(channel.map(FileChannel.MapMode.READ_ONLY,
+                0, channel.size()));
+        }
+        catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Determines whether a file starts with the header of a compiled
+     * lexicon.
+     *
+     * @param fileName the name of the file to check
+     * @return true if the file is a compiled lexicon, false otherwise
+     * @throws IllegalArgumentException if the file cannot be opened
+     */
+    public static boolean isCompiled(String fileName) {
+        try (DataInputStream in = new DataInputStream(
+                new FileInputStream(fileName))) {
+            return in.available() >= 4 && in.readInt() == LexiconCompiler.MAGIC;
+        }
+        catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public int root() {
+        return root;
+    }
+
+    @Override
+    public int step(int node, char c) {
+        int entry = LexiconCompiler.HEADER_BYTES + 4 * node;
+        int edge = data.getInt(entry) & ~LexiconCompiler.TERMINAL;
+        int end = data.getInt(entry + 4) & ~LexiconCompiler.TERMINAL;
+        for (; edge < end; edge++) {
+            char label = data.getChar(labelBase + 2 * edge);
+            if (label == c) {
+                return data.getInt(targetBase + 4 * edge);
+            }
+            if (label > c) {
+                return NONE;
+            }
+        }
+        return NONE;
+    }
+
+    @Override
+    public boolean isWord(int node) {
+        int entry = LexiconCompiler.HEADER_BYTES + 4 * node;
+        return (data.getInt(entry) & LexiconCompiler.TERMINAL) != 0;
+    }
+
+    @Override
+    public int size() {
+        return words;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Defines a read-only word list that a search can walk one character at a
+ * time. Every prefix of a word in the lexicon is a node, named by an int;
+ * step moves from a node to the node for that prefix plus one more
+ * character, and isWord tells whether the prefix at a node is itself a word.
+ * A board search keeps the node for the letters it has collected so far and
+ * steps once per tile, instead of looking the whole prefix up again.
+ *
+ * Words are stored in upper case, and the lookups expect upper-case input.
+ * A lexicon never changes once built, so any number of threads may search
+ * the same one at once.
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public interface Lexicon {
+
+   /** The node returned by step when no word continues that way. */
+   int NONE = -1;
+
+   /**
+    * Returns the lexicon stored in the named file. A file written by
+    * LexiconCompiler is mapped into memory as a DawgLexicon; any other file
+    * is read as a word list, one word at the start of each line, into a
+    * TrieLexicon. If the file cannot be read, this method throws an
+    * IllegalArgumentException.
+    */
+   static Lexicon load(String fileName) {
+      if (DawgLexicon.isCompiled(fileName)) {
+         return DawgLexicon.open(fileName);
+      }
+      return TrieLexicon.load(fileName);
+   }
+
+   /**
+    * Returns the node for the empty prefix.
+    */
+   int root();
+
+   /**
+    * Returns the node reached from node by the character c, or NONE if no
+    * word in the lexicon starts with that prefix.
+    */
+   int step(int node, char c);
+
+   /**
+    * Returns true if the prefix at node is a word in the lexicon.
+    */
+   boolean isWord(int node);
+
+   /**
+    * Returns the number of words in the lexicon.
+    */
+   int size();
+
+   /**
+    * Returns the node reached from node by each character of s in turn, or
+    * NONE if no word in the lexicon starts with that prefix. Board tiles such
+    * as "QU" may hold more than one character.
+    */
+   default int step(int node, String s) {
+      for (int i = 0; i < s.length() && node != NONE; i++) {
+         node = step(node, s.charAt(i));
+      }
+      return node;
+   }
+
+   /**
+    * Returns true if word is in the lexicon.
+    */
+   default boolean contains(String word) {
+      int node = step(root(), word);
+      return node != NONE && isWord(node);
+   }
+
+   /**
+    * Returns true if at least one word in the lexicon starts with prefix.
+    */
+   default boolean hasPrefix(String prefix) {
+      return step(root(), prefix) != NONE;
+   }
+
+}
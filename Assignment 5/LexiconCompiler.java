@@ -0,0 +1,224 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Compiles a word file into a minimized DAWG (directed acyclic word graph,
+ * the minimal acyclic automaton for the word list) in the flat binary format
+ * read by DawgLexicon. Words that end the same way share their suffix
+ * states, so the graph is much smaller than a trie of the same words, and
+ * the file can be mapped into memory and used as is, without parsing.
+ *
+ * The graph is built with the incremental algorithm for sorted input of
+ * Daciuk, Mihov, Watson and Watson (2000): after each word, the states of
+ * the previous word that can no longer change are replaced by an equivalent
+ * registered state if there is one, or registered themselves otherwise.
+ *
+ * File layout, all values big-endian:
+ *     int   magic "DAWG", int version, int nodeCount, int edgeCount,
+ *           int wordCount, int root
+ *     int   node[nodeCount + 1]   first edge of each node; bit 31 is set if
+ *                                 the node ends a word; node[nodeCount] is
+ *                                 edgeCount
+ *     char  label[edgeCount]      sorted within each node, padded to 4 bytes
+ *     int   target[edgeCount]     the node each edge leads to
+ *
+ * Usage: java LexiconCompiler wordFile compiledFile
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class LexiconCompiler {
+
+    /** The first four bytes of a compiled lexicon, "DAWG" in ASCII. */
+    static final int MAGIC = 0x44415747;
+
+    /** The version of the file layout. */
+    static final int VERSION = 1;
+
+    /** Size of the header in bytes. */
+    static final int HEADER_BYTES = 24;
+
+    /** The bit of a node entry that marks the end of a word. */
+    static final int TERMINAL = 0x80000000;
+
+    /**
+     * Can't instantiate this class.
+     */
+    private LexiconCompiler() { }
+
+    /**
+     * Compiles the word file named by the first argument into the file named
+     * by the second.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("usage: java LexiconCompiler wordFile "
+                + "compiledFile");
+            return;
+        }
+        int[] counts = compile(args[0], args[1]);
+        System.out.println(counts[0] + " words, " + counts[1] + " nodes, "
+            + counts[2] + " edges");
+    }
+
+    /**
+     * Reads a word file, converts the words to upper case and writes their
+     * minimized DAWG.
+     *
+     * @param wordFile the file to read, one word at the start of each line
+     * @param compiledFile the file to write
+     * @return the number of words, nodes and edges written
+     * @throws IOException if either file cannot be used
+     */
+    public static int[] compile(String wordFile, String compiledFile)
+            throws IOException {
+        SortedSet<String> words = new TreeSet<String>();
+        for (String w : TrieLexicon.readWords(wordFile)) {
+            words.add(w.toUpperCase());
+        }
+        return write(words, compiledFile);
+    }
+
+    /**
+     * Builds the minimized DAWG of the given words and writes it.
+     *
+     * @param words the words, sorted and without duplicates
+     * @param compiledFile the file to write
+     * @return the number of words, nodes and edges written
+     * @throws IOException if the file cannot be written
+     */
+    static int[] write(SortedSet<String> words, String compiledFile)
+            throws IOException {
+        List<State> registered = new ArrayList<State>();
+        Map<String, State> register = new HashMap<String, State>();
+        List<State> path = new ArrayList<State>();
+        State root = new State();
+        path.add(root);
+        String previous = "";
+        for (String w : words) {
+            int common = 0;
+            int max = Math.min(w.length(), previous.length());
+            while (common < max && w.charAt(common) == previous.charAt(common)) {
+                common++;
+            }
+            minimize(path, common, register, registered);
+            for (int i = common; i < w.length(); i++) {
+                State s = new State();
+                path.get(i).add(w.charAt(i), s);
+                path.add(s);
+            }
+            path.get(w.length()).terminal = true;
+            previous = w;
+        }
+        minimize(path, 0, register, registered);
+        root.id = registered.size();
+        registered.add(root);
+
+        int nodeCount = registered.size();
+        int edgeCount = 0;
+        for (State s : registered) {
+            edgeCount += s.count;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(compiledFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(nodeCount);
+            out.writeInt(edgeCount);
+            out.writeInt(words.size());
+            out.writeInt(root.id);
+            int edge = 0;
+            for (State s : registered) {
+                out.writeInt(edge | (s.terminal ? TERMINAL : 0));
+                edge += s.count;
+            }
+            out.writeInt(edgeCount);
+            for (State s : registered) {
+                for (int i = 0; i < s.count; i++) {
+                    out.writeChar(s.labels[i]);
+                }
+            }
+            if (edgeCount % 2 == 1) {
+                out.writeChar(0);
+            }
+            for (State s : registered) {
+                for (int i = 0; i < s.count; i++) {
+                    out.writeInt(s.targets[i].id);
+                }
+            }
+        }
+        return new int[] {words.size(), nodeCount, edgeCount};
+    }
+
+    /**
+     * Replaces or registers the states of path deeper than depth, deepest
+     * first, and removes them from path. Their children are already
+     * registered, so two states are equivalent exactly when they agree on
+     * being terminal and have the same labels leading to the same states.
+     */
+    private static void minimize(List<State> path, int depth,
+            Map<String, State> register, List<State> registered) {
+        for (int d = path.size() - 1; d > depth; d--) {
+            State child = path.remove(d);
+            State canonical = register.get(child.key());
+            if (canonical == null) {
+                child.id = registered.size();
+                registered.add(child);
+                register.put(child.key(), child);
+            }
+            else {
+                State parent = path.get(d - 1);
+                parent.targets[parent.count - 1] = canonical;
+            }
+        }
+    }
+
+    /**
+     * A state of the graph under construction. Edges are added in label
+     * order, since the words arrive sorted.
+     */
+    private static final class State {
+        private boolean terminal;
+        private char[] labels = new char[2];
+        private State[] targets = new State[2];
+        private int count;
+        private int id = -1;
+
+        /**
+         * Adds an edge after the existing ones.
+         */
+        void add(char label, State target) {
+            if (count == labels.length) {
+                labels = Arrays.copyOf(labels, 2 * count);
+                targets = Arrays.copyOf(targets, 2 * count);
+            }
+            labels[count] = label;
+            targets[count] = target;
+            count++;
+        }
+
+        /**
+         * Returns a string that is equal for equivalent states.
+         */
+        String key() {
+            StringBuilder b = new StringBuilder(1 + 3 * count);
+            b.append(terminal ? '1' : '0');
+            for (int i = 0; i < count; i++) {
+                int target = targets[i].id;
+                b.append(labels[i]).append((char) (target >>> 16))
+                    .append((char) target);
+            }
+            return b.toString();
+        }
+    }
+}
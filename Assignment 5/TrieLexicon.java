@@ -0,0 +1,177 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A Lexicon stored as a trie flattened into parallel arrays. Nodes are
+ * numbered in breadth-first order, so the children of a node are the
+ * consecutive nodes firstChild[node] to firstChild[node] + childCount[node]
+ * - 1, sorted by their characters in label[]. A step scans at most one
+ * node's children, a couple of dozen characters in one small run of memory,
+ * and no per-node objects exist at all.
+ *
+ * The trie is built in one pass over the sorted word list: each node covers
+ * the range of words that share its prefix, and its children split that
+ * range by the next character.
+ *
+ * @author Daniel Thomason (dht0009@auburn.edu)
+ * @version 2026-10-19
+ *
+ */
+public final class TrieLexicon implements Lexicon {
+
+    private final char[] label;
+    private final int[] firstChild;
+    private final byte[] childCount;
+    private final boolean[] word;
+    private final int words;
+
+    /**
+     * Builds the trie for the given words. They are converted to upper case
+     * and duplicates are ignored.
+     *
+     * @param wordList the words of the lexicon
+     */
+    public TrieLexicon(Iterable<String> wordList) {
+        SortedSet<String> sorted = new TreeSet<String>();
+        for (String w : wordList) {
+            sorted.add(w.toUpperCase());
+        }
+        String[] all = sorted.toArray(new String[0]);
+        words = all.length;
+
+        int capacity = Math.max(16, 2 * all.length);
+        char[] lab = new char[capacity];
+        int[] first = new int[capacity];
+        byte[] count = new byte[capacity];
+        boolean[] isWord = new boolean[capacity];
+        int[] lo = new int[capacity];
+        int[] hi = new int[capacity];
+        int[] depth = new int[capacity];
+        lo[0] = 0;
+        hi[0] = all.length;
+        int nodes = 1;
+        for (int n = 0; n < nodes; n++) {
+            int start = lo[n];
+            int d = depth[n];
+            if (start < hi[n] && all[start].length() == d) {
+                isWord[n] = true;
+                start++;
+            }
+            first[n] = nodes;
+            int i = start;
+            while (i < hi[n]) {
+                char c = all[i].charAt(d);
+                int j = i + 1;
+                while (j < hi[n] && all[j].charAt(d) == c) {
+                    j++;
+                }
+                if (nodes == lab.length) {
+                    int cap = 2 * lab.length;
+                    lab = Arrays.copyOf(lab, cap);
+                    first = Arrays.copyOf(first, cap);
+                    count = Arrays.copyOf(count, cap);
+                    isWord = Arrays.copyOf(isWord, cap);
+                    lo = Arrays.copyOf(lo, cap);
+                    hi = Arrays.copyOf(hi, cap);
+                    depth = Arrays.copyOf(depth, cap);
+                }
+                lab[nodes] = c;
+                lo[nodes] = i;
+                hi[nodes] = j;
+                depth[nodes] = d + 1;
+                nodes++;
+                i = j;
+            }
+            if (nodes - first[n] > 255) {
+                throw new IllegalArgumentException("alphabet too large");
+            }
+            // Stored as an unsigned byte; see step.
+            count[n] = (byte) (nodes - first[n]);
+        }
+        label = Arrays.copyOf(lab, nodes);
+        firstChild = Arrays.copyOf(first, nodes);
+        childCount = Arrays.copyOf(count, nodes);
+        word = Arrays.copyOf(isWord, nodes);
+    }
+
+    /**
+     * Reads a word file and builds its trie.
+     *
+     * @param fileName the name of a file with one word at the start of each
+     *     line
+     * @return the lexicon of the words in the file
+     * @throws IllegalArgumentException if the file cannot be read
+     */
+    public static TrieLexicon load(String fileName) {
+        try {
+            return new TrieLexicon(readWords(fileName));
+        }
+        catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Reads the first whitespace-separated token of every non-blank line of
+     * a word file. Anything after it on the line, such as the definitions in
+     * OWL.txt, is ignored.
+     *
+     * @param fileName the name of the word file
+     * @return the words, in file order
+     * @throws IOException if the file cannot be read
+     */
+    static List<String> readWords(String fileName) throws IOException {
+        List<String> result = new ArrayList<String>();
+        try (BufferedReader in = new BufferedReader(new FileReader(fileName))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    int end = 0;
+                    while (end < line.length()
+                            && !Character.isWhitespace(line.charAt(end))) {
+                        end++;
+                    }
+                    result.add(line.substring(0, end));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int root() {
+        return 0;
+    }
+
+    @Override
+    public int step(int node, char c) {
+        int child = firstChild[node];
+        int end = child + (childCount[node] & 0xFF);
+        for (; child < end; child++) {
+            if (label[child] == c) {
+                return child;
+            }
+            if (label[child] > c) {
+                return NONE;
+            }
+        }
+        return NONE;
+    }
+
+    @Override
+    public boolean isWord(int node) {
+        return word[node];
+    }
+
+    @Override
+    public int size() {
+        return words;
+    }
+}
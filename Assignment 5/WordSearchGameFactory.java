@@ -17,4 +17,12 @@ public class WordSearchGameFactory {
       return new WordthFirstSearch();
    }
 
+   /**
+    * Returns a solver that loads the named lexicon once and shares it
+    * across any number of boards and threads.
+    */
+   public static BoardBatchSolver createBatchSolver(String fileName) {
+      return new BoardBatchSolver(fileName);
+   }
+
 }
@@ -1,14 +1,7 @@
 import java.util.List;
-import java.util.Set;
 import java.util.SortedSet;
-import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.util.Scanner;
 import java.util.TreeSet;
 import java.util.Iterator;
-import java.util.Arrays;
-import java.util.ArrayList;
 
 /**
  * Creates a word search game.
@@ -18,43 +11,20 @@ import java.util.ArrayList;
  *
  */
 public class WordthFirstSearch implements WordSearchGame {
-    private String[][] board;
-    private boolean[][] visited;
-    private TreeSet<String> lexicon;
-    private static final int MAX_NEIGHBORS = 8;
+    private Lexicon lexicon;
     private boolean loaded;
-    private int length;
-    private int height;
-    private int width;
-    private SortedSet<String> validWords;
-    private List<Integer> path;
-    private List<Integer> actualPath;
-    private ArrayList<Position> wordPath;
-    private String buildingWord;
+    private BoardSolver solver;
 
     public WordthFirstSearch() {
         //Default gameboard from the intstructions if another one is not loaded.
-        board = new String[4][4];
-        board[0][0] = "E";
-        board[0][1] = "E";
-        board[0][2] = "C";
-        board[0][3] = "A";
-        board[1][0] = "A";
-        board[1][1] = "L";
-        board[1][2] = "E";
-        board[1][3] = "P";
-        board[2][0] = "H";
-        board[2][1] = "N";
-        board[2][2] = "B";
-        board[2][3] = "O";
-        board[3][0] = "Q";
-        board[3][1] = "T";
-        board[3][2] = "T";
-        board[3][3] = "Y";
+        setBoard(new String[] {"E", "E", "C", "A", "A", "L", "E", "P",
+                               "H", "N", "B", "O", "Q", "T", "T", "Y"});
     }
 
     /**
-     * Loads the lexicon into a data structure for later use.
+     * Loads the lexicon into a data structure for later use. The file may be
+     * a word list or a lexicon compiled by LexiconCompiler, which is mapped
+     * into memory instead of being read.
      *
      * @param fileName A string containing the name of the file to be opened.
      * @throws IllegalArgumentException if fileName is null
@@ -62,25 +32,10 @@ public class WordthFirstSearch implements WordSearchGame {
      */
     @Override
     public void loadLexicon(String fileName) {
-        lexicon = new TreeSet<String>();
         if (fileName == null) {
             throw new IllegalArgumentException();
         }
-        Scanner scan;
-        String letter;
-        try {
-            scan = new Scanner(new BufferedReader(new FileReader(
-            new File(fileName))));
-            while (scan.hasNext()) {
-                letter= scan.next();
-                letter = letter.toUpperCase();
-                lexicon.add(letter);
-                scan.nextLine();
-            }
-        }
-        catch (java.io.IOException i) {
-            throw new IllegalArgumentException();
-        }
+        lexicon = Lexicon.load(fileName);
         loaded = true;
     }
     /**
@@ -97,25 +52,7 @@ public class WordthFirstSearch implements WordSearchGame {
      */
     @Override
     public void setBoard(String[] letterArray) {
-        if (letterArray == null) {
-            throw new IllegalArgumentException();
-        }
-        int dimension = (int) Math.sqrt(letterArray.length);
-        if ((dimension * dimension) != letterArray.length) {
-            throw new IllegalArgumentException();
-        }
-        else {
-            height = dimension;
-            width = dimension;
-            int position = 0;
-            board = new String[dimension][dimension];
-            for (int h = 0; h < height; h++) {
-                for (int w = 0; w < width; w++) {
-                    board[h][w] = letterArray[position];
-                    position++;
-                }
-            }
-        }
+        solver = new BoardSolver(letterArray);
     }
 
     /**
@@ -125,13 +62,12 @@ public class WordthFirstSearch implements WordSearchGame {
      */
     @Override
     public String getBoard() {
-        String boardString = "";
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                boardString += board[i][j] += " ";
-            }
+        StringBuilder boardString = new StringBuilder();
+        int cells = solver.dimension() * solver.dimension();
+        for (int i = 0; i < cells; i++) {
+            boardString.append(solver.tile(i)).append(' ');
         }
-        return boardString;
+        return boardString.toString();
     }
 
     /**
@@ -153,27 +89,34 @@ public class WordthFirstSearch implements WordSearchGame {
         if (!loaded) {
             throw new IllegalStateException();
         }
-        wordPath = new ArrayList<Position>();
-        validWords = new TreeSet<String>();
-        buildingWord = "";
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                buildingWord = board[i][j];
-                if (isValidWord(buildingWord) && buildingWord.length()
-                   >= minimumWordLength) {
-                   validWords.add(buildingWord);
-               }
-               if (isValidPrefix(buildingWord)) {
-                   Position p = new Position(i,j);
-                   wordPath.add(p);
-                   depth(i, j, minimumWordLength);
-                   wordPath.remove(p);
-               }
-            }
-        }
+        SortedSet<String> validWords = new TreeSet<String>();
+        solver.findWords(lexicon, minimumWordLength, validWords);
         return validWords;
     }
 
+    /**
+     * Retrieves the same words as getAllValidWords, but searches from the
+     * starting cells of the board in parallel on the common fork/join pool.
+     * This pays off on large boards; on the standard 4x4 and 5x5 boards the
+     * sequential method is usually faster.
+     *
+     * @param minimumWordLength The minimum allowed length (i.e., number of
+     *     characters) for any word found on the board.
+     * @return java.util.SortedSet which contains all the words of minimum length
+     *     found on the game board and in the lexicon.
+     * @throws IllegalArgumentException if minimumWordLength < 1
+     * @throws IllegalStateException if loadLexicon has not been called.
+     */
+    public SortedSet<String> getAllValidWordsParallel(int minimumWordLength) {
+        if (minimumWordLength < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (!loaded) {
+            throw new IllegalStateException();
+        }
+        return solver.findWordsParallel(lexicon, minimumWordLength);
+    }
+
     /**
      * Computes the cummulative score for the scorable words in the given set.
      * To be scorable, a word must (1) have at least the minimum number of characters,
@@ -243,7 +186,7 @@ public class WordthFirstSearch implements WordSearchGame {
         if (!loaded) {
             throw new IllegalStateException();
         }
-        return lexicon.ceiling(prefixToCheck).startsWith(prefixToCheck);
+        return lexicon.hasPrefix(prefixToCheck.toUpperCase());
     }
 
     /**
@@ -267,183 +210,6 @@ public class WordthFirstSearch implements WordSearchGame {
         if (!loaded) {
             throw new IllegalStateException();
         }
-        wordPath = new ArrayList<Position>();
-        wordToCheck = wordToCheck.toUpperCase();
-        buildingWord = "";
-        path =  new ArrayList<Integer>();
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (wordToCheck.equals(board[i][j])) {
-                    path.add(i * width + j);
-                    return path;
-                }
-                if (wordToCheck.startsWith(board[i][j])) {
-                    Position p = new Position(i, j);
-                    wordPath.add(p);
-                    buildingWord = board[i][j];
-                }
-            }
-        }
-        return path;
-    }
-
-    /**
-     * Marks all positions on the board as unvisited.
-     */
-    private void markAllUnvisited() {
-        visited = new boolean[width][height];
-        for (boolean[] row : visited) {
-            Arrays.fill(row, false);
-        }
-    }
-
-    /**
-     * Marks all positions on the word path as visited.
-     */
-    private void markPathVisited() {
-        for (int i = 0; i < wordPath.size(); i++) {
-            visit(wordPath.get(i));
-        }
-    }
-
-    /**
-     * Performs a depth-first search for the getAllValidWords method.
-     *
-     * @param x - "x" coordinate
-     * @param y - "y" coordinate
-     * @param minLength - mininum length of a word
-     */
-    private void depth(int x, int y, int minLength) {
-        Position start = new Position(x, y);
-        markAllUnvisited();
-        markPathVisited();
-        for (Position p : start.neighbors()) {
-            if (!isVisited(p)) {
-                visit(p);
-                if (isValidPrefix(buildingWord + board[p.x][p.y])) {
-                    buildingWord += board[p.x][p.y];
-                    wordPath.add(p);
-                    if (isValidWord(buildingWord) && buildingWord.length()
-                       >= minLength) {
-                        validWords.add(buildingWord);
-                    }
-                    depth(p.x, p.y, minLength);
-                    wordPath.remove(p);
-                    int end = buildingWord.length() - board[p.x][p.y].length();
-                    buildingWord = buildingWord.substring(0, end);
-                }
-            }
-        }
-        markAllUnvisited();
-        markPathVisited();
-    }
-
-    /**
-     * Performs a depth-first search for the isOnBoard method.
-     *
-     * @param x - "x" coordinate
-     * @param y - "y" coordinate
-     * @param word - the word that is being checked to see if it is
-     * on the board
-     */
-    private void depth2(int x, int y, String word) {
-        Position start = new Position(x, y);
-        markAllUnvisited();
-        markPathVisited();
-        for (Position p : start.neighbors()) {
-            if (word.startsWith(buildingWord + board[p.x][p.y])) {
-                buildingWord += board[p.x][p.y];
-                wordPath.add(p);
-                depth2(p.x, p.y, word);
-            }
-            if (word.equals(buildingWord)) {
-                return;
-            }
-            else {
-                wordPath.remove(p);
-                int end = buildingWord.length() - board[p.x][p.y].length();
-                buildingWord = buildingWord.substring(0, end);
-            }
-        }
-        markAllUnvisited();
-        markPathVisited();
-    }
-
-    /**
-     * Determines if the position is actually a position on the board.
-     *
-     * @param p - the position to be checked
-     * @return true if on board, false if not
-     */
-    private boolean isValid(Position p) {
-        return (p.x >= 0) && (p.x < width) && (p.y >= 0) && (p.y < height);
-    }
-
-    /**
-     * Determines if the position is being visited.
-     *
-     * @return true if it is being visited, false if not
-     */
-    private boolean isVisited(Position p) {
-        return visited[p.x][p.y];
-    }
-
-    /**
-     * Physically visits the position on the board.
-     */
-    private void visit(Position p) {
-        visited[p.x][p.y] = true;
-    }
-
-    /**
-     * Class that defines a Position object to represent points on the game
-     * board.
-     */
-    private class Position {
-        int x;
-        int y;
-
-        /**
-         * Constructs a Position object.
-         *
-         * @param x - "x" coordinate
-         * @param y - "y" coordinate
-         */
-        public Position(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-
-        /**
-         * Represents the Position as a coordinate point.
-         *
-         * @return a String representation of the Position
-         */
-        @Override
-        public String toString() {
-            return "(" + x + ", " + ")";
-        }
-
-        /**
-         * Creates an array of the neighbors of the current Position.
-         *
-         * @return an array containing the neighbors of the Position.
-         */
-        public Position[] neighbors() {
-            Position[] nbrs = new Position[MAX_NEIGHBORS];
-            int count = 0;
-            Position p;
-            for (int i = -1; i <= 1; i++) {
-                for (int j = -1; j <= 1; j++) {
-                    if (!((i == 0) && (j == 0))) {
-                        p = new Position (x + i, y +j);
-                        if (isValid(p)) {
-                            nbrs[count++] = p;
-                        }
-                    }
-                }
-            }
-            return Arrays.copyOf(nbrs, count);
-        }
+        return solver.findPath(wordToCheck);
     }
 }